@@ -3,6 +3,7 @@ plugins {
 	alias(libs.plugins.spring.boot)
 	alias(libs.plugins.spring.dependency.management)
 	id("jacoco")
+	alias(libs.plugins.jmh)
 }
 
 allprojects {
@@ -19,7 +20,9 @@ group = "io.hhplus"
 version = "0.0.1-SNAPSHOT"
 
 java {
-	sourceCompatibility = JavaVersion.VERSION_17
+	toolchain {
+		languageVersion.set(JavaLanguageVersion.of(21))
+	}
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
@@ -34,6 +37,8 @@ configurations {
 
 dependencies {
 	implementation(libs.spring.boot.starter.web)
+	implementation(libs.spring.boot.starter.actuator)
+	runtimeOnly(libs.micrometer.registry.prometheus)
 	annotationProcessor(libs.spring.boot.configuration.processor)
 	testImplementation(libs.spring.boot.starter.test)
 
@@ -41,6 +46,17 @@ dependencies {
 	annotationProcessor(libs.lombok)
 }
 
+// benchmark tasks (./gradlew jmh)
+jmh {
+	jmhVersion.set(libs.versions.jmh.core.get())
+	includeTests.set(true)
+	profilers.add("gc")
+	fork.set(1)
+	warmupIterations.set(2)
+	iterations.set(3)
+	resultFormat.set("JSON")
+}
+
 // bundling tasks
 tasks.getByName("bootJar") {
 	enabled = true
@@ -51,5 +67,24 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
 	ignoreFailures = true
-	useJUnitPlatform()
+	useJUnitPlatform {
+		excludeTags("load")
+	}
+}
+// 부하 테스트는 별도로 실행합니다. ./gradlew loadTest
+tasks.register<Test>("loadTest") {
+	description = "Runs load tests tagged with 'load'."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	useJUnitPlatform {
+		includeTags("load")
+	}
+	maxHeapSize = "2g"
+	// 지연 분포 부하 테스트의 보고서 위치와 비교할 이전 보고서 디렉터리 (-Dpoint.load.baseline=...)
+	systemProperty("point.load.report-dir", layout.buildDirectory.dir("reports/point-load").get().asFile.absolutePath)
+	providers.systemProperty("point.load.baseline").orNull?.let { systemProperty("point.load.baseline", it) }
+	testLogging {
+		showStandardStreams = true
+	}
 }
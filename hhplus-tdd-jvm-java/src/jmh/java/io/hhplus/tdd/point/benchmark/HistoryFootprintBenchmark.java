@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.PointHistoryStore.Storage;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointHistoryStore 에 내역 rows 건을 적재했을 때 저장소와 테이블을 합쳐 남는 힙 크기를 저장 방식(point.history.storage)별로 비교합니다.
+ * table 은 테이블의 박싱된 행과 그 행을 가리키는 사용자별 색인, columnar 는 테이블 없이 원시 타입 열만 남습니다.
+ * 원본 테이블은 건당 최대 300ms 지연이 있어 대량 적재가 불가능하므로, 같은 ArrayList&lt;PointHistory&gt; 구조에 지연이 없는
+ * FixedLatencyPointHistoryTable(0) 을 사용합니다.
+ * 측정값은 반복마다 "retained bytes/row" 로 출력되며, 점수는 적재 시간입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HistoryFootprintBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+
+    @Param({"1000000", "5000000"})
+    public int rows;
+
+    @Param({"TABLE", "COLUMNAR"})
+    public Storage storage;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private Object retained;
+    private long heapBefore;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        retained = null;
+        heapBefore = usedHeapAfterGc();
+    }
+
+    @Benchmark
+    public Object load() throws InterruptedException {
+        PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), storage);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < rows; i++) {
+            store.insert((long) (i % USER_COUNT + 1), 1_000L + i, TransactionType.CHARGE, now + i);
+        }
+        retained = store;
+        return retained;
+    }
+
+    @TearDown(Level.Iteration)
+    public void report() {
+        long retainedBytes = usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n[%s] rows=%d retained=%,d bytes (%.1f bytes/row)%n",
+                storage, rows, retainedBytes, (double) retainedBytes / rows);
+        retained = null;
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크에서 요청할 사용자 id 의 분포입니다.
+ */
+public enum KeyDistribution {
+    /**
+     * 모든 사용자가 같은 확률로 요청합니다.
+     */
+    UNIFORM,
+    /**
+     * 소수의 사용자에게 요청이 몰립니다. (Zipf, s = 1)
+     */
+    ZIPF,
+    /**
+     * 한 사용자에게만 요청합니다.
+     */
+    SINGLE;
+
+    public UserKeys keys(int userCount) {
+        return switch (this) {
+            case UNIFORM -> () -> ThreadLocalRandom.current().nextLong(1, userCount + 1L);
+            case ZIPF -> new ZipfKeys(userCount);
+            case SINGLE -> () -> 1L;
+        };
+    }
+
+    @FunctionalInterface
+    public interface UserKeys {
+        long next();
+    }
+
+    private static final class ZipfKeys implements UserKeys {
+        // cumulative[i] 는 1 ~ (i + 1) 번 사용자가 선택될 누적 확률입니다.
+        private final double[] cumulative;
+
+        private ZipfKeys(int userCount) {
+            cumulative = new double[userCount];
+            double sum = 0;
+            for (int rank = 1; rank <= userCount; rank++) {
+                sum += 1.0 / rank;
+                cumulative[rank - 1] = sum;
+            }
+            for (int i = 0; i < userCount; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        public long next() {
+            int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+            return (index >= 0 ? index : -index - 1) + 1L;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.dto.PointDto;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.engine.LockingPointEngine;
+import io.hhplus.tdd.point.service.engine.PointEngine;
+import io.hhplus.tdd.point.service.engine.PointWriter;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전 한 건이 할당하는 바이트 수를 명령 객체 경로(PointDto -> PointCommand -> UserPoint)와 원시 타입 경로로 비교합니다.
+ * gc 프로파일러(-prof gc, 빌드 설정에 기본 포함)의 gc.alloc.rate.norm 이 연산당 할당 바이트입니다.
+ * 테이블이 만드는 UserPoint/PointHistory 와 박싱은 두 경로에 똑같이 포함되므로, 차이가 서비스 경로에서 줄어든 할당입니다.
+ * 사용자 id 는 미리 박싱해 두어 벤치마크 코드 자체의 할당이 섞이지 않도록 합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointAllocationBenchmark {
+
+    private static final int USER_COUNT = 1024;
+
+    private final Long[] userIds = new Long[USER_COUNT];
+    private PointService pointService;
+    private PointEngine pointEngine;
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws Exception {
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(0L));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L));
+        pointEngine = new LockingPointEngine(userPointStore, new PointWriter(userPointStore, pointHistoryStore), new UserLockManager());
+        pointService = new PointService(userPointStore, pointHistoryStore, pointEngine, new IdempotencyRegistry());
+        for (int i = 0; i < USER_COUNT; i++) {
+            userIds[i] = (long) i + 1_000;
+            pointService.chargePoint(userIds[i], 1L);
+        }
+    }
+
+    @Benchmark
+    public UserPoint commandPath() throws Exception {
+        return pointEngine.execute(PointCommand.charge(PointDto.of(nextUserId(), 1L)));
+    }
+
+    @Benchmark
+    public UserPoint primitivePath() throws Exception {
+        return pointService.chargePoint(nextUserId(), 1L);
+    }
+
+    private Long nextUserId() {
+        next = (next + 1) & (USER_COUNT - 1);
+        return userIds[next];
+    }
+}
@@ -0,0 +1,235 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.database.ColdHistorySegments;
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.journal.PointSnapshotter;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * PointJournal 의 기록 처리량과 재생(복구) 시간을 측정합니다.
+ * <ul>
+ *     <li>Append: 8 개 스레드가 동시에 기록할 때의 초당 기록 수 (sync=NONE | GROUP)</li>
+ *     <li>Recovery: entries 건이 쌓인 저널을 다시 열어 잔액을 복구하는 데 걸리는 시간</li>
+ *     <li>Startup: users 명의 잔액을 스냅숏 + 꼬리 재생(snapshot) 또는 저널 전체 재생(journal)으로 복구하는 데 걸리는 시간</li>
+ *     <li>HistoryStartup: 같은 규모에서 PointHistoryStore 가 색인 복구를 마쳐 내역 조회가 가능해질 때까지 걸리는 시간.
+ *     히스토리 스냅숏 + 꼬리 재생(history-snapshot) 또는 저널 전체 재생(journal) (columnar, 꼬리를 뺀 내역은 콜드 세그먼트)</li>
+ * </ul>
+ */
+public class PointJournalBenchmark {
+
+    private static final int SEGMENT_BYTES = 64 * 1024 * 1024;
+    private static final int USER_COUNT = 100_000;
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Threads(8)
+    public static class Append {
+
+        @Param({"NONE", "GROUP"})
+        public PointJournal.SyncMode sync;
+
+        private final AtomicLong ids = new AtomicLong();
+        private Path directory;
+        private PointJournal journal;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("point-journal-append");
+            journal = new PointJournal(directory, SEGMENT_BYTES, sync, Duration.ofMillis(5));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            delete(directory);
+        }
+
+        @Benchmark
+        public void append() throws InterruptedException {
+            long id = ids.incrementAndGet();
+            journal.append(new PointHistory(id, id % USER_COUNT + 1, TransactionType.CHARGE, 100L, id));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public static class Recovery {
+
+        @Param({"10000000"})
+        public int entries;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, InterruptedException {
+            directory = Files.createTempDirectory("point-journal-recovery");
+            try (PointJournal journal = new PointJournal(directory, SEGMENT_BYTES, PointJournal.SyncMode.NONE, Duration.ZERO)) {
+                for (long id = 1; id <= entries; id++) {
+                    journal.append(new PointHistory(id, id % USER_COUNT + 1, TransactionType.CHARGE, 100L, id));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+
+        @Benchmark
+        public long recover() {
+            try (PointJournal journal = new PointJournal(directory, SEGMENT_BYTES, PointJournal.SyncMode.NONE, Duration.ZERO)) {
+                return journal.recoveredEntries();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public static class Startup {
+
+        private static final int ENTRIES_PER_USER = 4;
+        private static final int TAIL_ENTRIES = 100_000;
+
+        @Param({"1000000"})
+        public int users;
+
+        @Param({"snapshot", "journal"})
+        public String recovery;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, InterruptedException {
+            directory = Files.createTempDirectory("point-journal-startup");
+            long id = 0;
+            try (PointJournal journal = new PointJournal(directory, SEGMENT_BYTES, PointJournal.SyncMode.NONE, Duration.ZERO)) {
+                for (int round = 0; round < ENTRIES_PER_USER; round++) {
+                    for (long userId = 1; userId <= users; userId++) {
+                        journal.append(new PointHistory(++id, userId, TransactionType.CHARGE, 100L, id));
+                    }
+                }
+                if (recovery.equals("snapshot")) {
+                    new PointSnapshotter(journal).snapshot();
+                }
+                for (int i = 0; i < TAIL_ENTRIES; i++) {
+                    journal.append(new PointHistory(++id, i % users + 1L, TransactionType.USE, 1L, id));
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+
+        @Benchmark
+        public int start() {
+            try (PointJournal journal = new PointJournal(directory, SEGMENT_BYTES, PointJournal.SyncMode.NONE, Duration.ZERO)) {
+                return journal.recoveredBalances().size();
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+    public static class HistoryStartup {
+
+        private static final int ENTRIES_PER_USER = 4;
+        private static final int TAIL_ENTRIES = 100_000;
+
+        @Param({"1000000"})
+        public int users;
+
+        @Param({"history-snapshot", "journal"})
+        public String recovery;
+
+        private Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException, InterruptedException {
+            directory = Files.createTempDirectory("point-history-startup");
+            long now = System.currentTimeMillis();
+            try (PointJournal journal = new PointJournal(directory.resolve("journal"), SEGMENT_BYTES, PointJournal.SyncMode.NONE, Duration.ZERO);
+                 ColdHistorySegments cold = newColdHistorySegments();
+                 PointHistoryStore store = newStore(journal, cold)) {
+                for (int round = 0; round < ENTRIES_PER_USER; round++) {
+                    for (long userId = 1; userId <= users; userId++) {
+                        store.insert(userId, 100L, TransactionType.CHARGE, round + 1L);
+                    }
+                }
+                store.compact(now);
+                if (recovery.equals("history-snapshot")) {
+                    new PointSnapshotter(journal).snapshot();
+                    store.snapshot();
+                }
+                for (int i = 0; i < TAIL_ENTRIES; i++) {
+                    store.insert(i % users + 1L, 1L, TransactionType.USE, now);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+
+        @Benchmark
+        public int start() {
+            try (PointJournal journal = new PointJournal(directory.resolve("journal"), SEGMENT_BYTES, PointJournal.SyncMode.NONE, Duration.ZERO);
+                 ColdHistorySegments cold = newColdHistorySegments();
+                 PointHistoryStore store = newStore(journal, cold)) {
+                // 조회는 색인 복구가 끝날 때까지 기다립니다.
+                store.selectAllByUserId(1L);
+                return store.users();
+            }
+        }
+
+        private ColdHistorySegments newColdHistorySegments() {
+            return new ColdHistorySegments(directory.resolve("history"), Duration.ofDays(3), Duration.ofDays(1));
+        }
+
+        private static PointHistoryStore newStore(PointJournal journal, ColdHistorySegments cold) {
+            return new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), journal, cold, PointMetrics.noop(), PointHistoryStore.Storage.COLUMNAR);
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.database.VersionedUserPointStore;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.dto.PointDto;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.engine.LockingPointEngine;
+import io.hhplus.tdd.point.service.engine.MailboxPointEngine;
+import io.hhplus.tdd.point.service.engine.OptimisticPointEngine;
+import io.hhplus.tdd.point.service.engine.PartitionedPointEngine;
+import io.hhplus.tdd.point.service.engine.PointEngine;
+import io.hhplus.tdd.point.service.engine.PointWriter;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointService 의 충전/사용/내역 조회 처리량을 스레드 수, 사용자 분포, 처리 엔진별로 측정합니다.
+ * 테이블은 무작위 지연 대신 고정 지연(기본 0ms)을 갖는 테스트용 구현으로 대체합니다.
+ * 할당률은 gc 프로파일러(gc.alloc.rate.norm)로 함께 보고됩니다.
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class PointServiceBenchmark {
+
+    private static final int USER_COUNT = 10_000;
+    private static final long INITIAL_POINT = Long.MAX_VALUE / 4;
+    private static final int INITIAL_HISTORIES_PER_USER = 20;
+
+    @Param({"UNIFORM", "ZIPF", "SINGLE"})
+    public KeyDistribution distribution;
+
+    @Param({"lock", "mailbox", "partitioned", "optimistic"})
+    public String engine;
+
+    @Param({"0"})
+    public long tableLatencyMillis;
+
+    private PointService pointService;
+    private PointEngine pointEngine;
+    private KeyDistribution.UserKeys userKeys;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(tableLatencyMillis));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(tableLatencyMillis));
+        pointEngine = switch (engine) {
+            case "lock" -> new LockingPointEngine(userPointStore, new PointWriter(userPointStore, pointHistoryStore), new UserLockManager());
+            case "mailbox" -> new MailboxPointEngine(userPointStore, pointHistoryStore, Runtime.getRuntime().availableProcessors());
+            case "partitioned" -> new PartitionedPointEngine(userPointStore, new PointWriter(userPointStore, pointHistoryStore), Runtime.getRuntime().availableProcessors());
+            case "optimistic" -> new OptimisticPointEngine(new VersionedUserPointStore(userPointStore), new PointWriter(userPointStore, pointHistoryStore));
+            default -> throw new IllegalArgumentException(engine);
+        };
+        pointService = new PointService(userPointStore, pointHistoryStore, pointEngine, new IdempotencyRegistry());
+        userKeys = distribution.keys(USER_COUNT);
+
+        for (long userId = 1; userId <= USER_COUNT; userId++) {
+            pointService.chargePoint(PointDto.of(userId, INITIAL_POINT));
+            for (int i = 1; i < INITIAL_HISTORIES_PER_USER; i++) {
+                pointService.chargePoint(PointDto.of(userId, 0L));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (pointEngine instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    @Benchmark
+    public UserPoint chargePoint() throws Exception {
+        return pointService.chargePoint(PointDto.of(userKeys.next(), 1L));
+    }
+
+    @Benchmark
+    public UserPoint usePoint() throws Exception {
+        return pointService.usePoint(PointDto.of(userKeys.next(), 1L));
+    }
+
+    @Benchmark
+    public List<PointHistory> checkPointHistory() {
+        return pointService.checkPointHistory(userKeys.next());
+    }
+
+    @Threads(1)
+    public static class SingleThread extends PointServiceBenchmark {
+    }
+
+    @Threads(8)
+    public static class EightThreads extends PointServiceBenchmark {
+    }
+
+    @Threads(32)
+    public static class ThirtyTwoThreads extends PointServiceBenchmark {
+    }
+}
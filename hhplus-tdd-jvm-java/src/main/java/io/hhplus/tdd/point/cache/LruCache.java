@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 최대 크기와 만료 시간을 갖는 LRU 캐시입니다.
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거되고, 저장 후 ttl 이 지난 항목은 조회되지 않습니다.
+ * ttl 이 0 이면 만료되지 않습니다.
+ */
+public class LruCache<K, V> {
+
+    private final int maximumSize;
+    private final long ttlMillis;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public LruCache(int maximumSize, Duration ttl) {
+        this.maximumSize = maximumSize;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > LruCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(key);
+            evictions.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        if (maximumSize <= 0) {
+            return;
+        }
+        entries.put(key, new CacheEntry<>(value, System.currentTimeMillis()));
+    }
+
+    /**
+     * 저장이 목적이므로 적중/미스 집계에는 넣지 않습니다.
+     *
+     * @return 이미 저장된 값이 있으면 그 값, 없어서 새로 저장했으면 null
+     */
+    public synchronized V putIfAbsent(K key, V value) {
+        CacheEntry<V> entry = entries.get(key);
+        if (entry != null && !isExpired(entry)) {
+            return entry.value;
+        }
+        if (entry != null) {
+            evictions.increment();
+        }
+        put(key, value);
+        return null;
+    }
+
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private boolean isExpired(CacheEntry<V> entry) {
+        return ttlMillis > 0 && System.currentTimeMillis() - entry.writtenAt >= ttlMillis;
+    }
+
+    private record CacheEntry<V>(V value, long writtenAt) {
+    }
+}
@@ -1,55 +1,162 @@
 package io.hhplus.tdd.point.controller;
 
-import io.hhplus.tdd.point.dto.PointDto;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.dto.request.PointBatchRequest;
 import io.hhplus.tdd.point.dto.request.PointRequest;
+import io.hhplus.tdd.point.dto.response.PointBatchResponse;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import io.hhplus.tdd.point.service.PointBatchService;
 import io.hhplus.tdd.point.service.PointService;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequestMapping("/point")
 @RestController
 public class PointController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final PointService pointService;
+    private final PointAsyncService pointAsyncService;
+    private final PointBatchService pointBatchService;
+    private final ObjectMapper objectMapper;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, PointAsyncService pointAsyncService, PointBatchService pointBatchService, ObjectMapper objectMapper) {
         this.pointService = pointService;
+        this.pointAsyncService = pointAsyncService;
+        this.pointBatchService = pointBatchService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
+     * 잔액 조회/충전/사용은 테이블 호출을 PointAsyncService 의 실행기에서 기다리고, 서블릿 스레드는 Future 를 반환한 즉시 반납합니다.
      */
     @GetMapping("{id}")
-    public UserPoint point(@PathVariable Long id) throws InterruptedException {
-        return pointService.checkPoint(id);
+    public CompletableFuture<UserPoint> point(@PathVariable Long id) {
+        return pointAsyncService.checkPoint(id);
     }
 
     /**
      * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+     * from(포함)/to(제외) 시각(epoch millis)이나 type 을 전달하면 해당 범위의 내역만 조회합니다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(@PathVariable Long id) {
-        return pointService.checkPointHistory(id);
+    public List<PointHistory> history(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        if (from == null && to == null && type == null) {
+            return pointService.checkPointHistory(id);
+        }
+        return pointService.checkPointHistory(id, from, to, type);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 커서 기반으로 조회합니다.
+     * 첫 페이지는 limit 만 전달하고, 이후에는 응답의 nextCursor 를 cursor 로 전달합니다.
+     * from/to/type 을 함께 전달하면 목록 조회와 같은 조건으로 걸러 페이지를 나눕니다.
+     */
+    @GetMapping(value = "{id}/histories", params = "limit")
+    public PointHistoryPage historyPage(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam int limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        if (from == null && to == null && type == null) {
+            return pointService.checkPointHistory(id, cursor, limit);
+        }
+        return pointService.checkPointHistory(id, cursor, limit, from, to, type);
+    }
+
+    /**
+     * limit 없이 cursor 만 전달하면 전체 내역 대신 cursor 이후의 내역을 기본 페이지 크기(100건)만큼 조회합니다.
+     */
+    @GetMapping(value = "{id}/histories", params = {"cursor", "!limit"})
+    public PointHistoryPage historyPageFromCursor(
+            @PathVariable Long id,
+            @RequestParam Long cursor,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        return historyPage(id, cursor, DEFAULT_PAGE_SIZE, from, to, type);
+    }
+
+    /**
+     * 특정 유저의 전체 포인트 충전/이용 내역을 한 줄에 한 건씩 JSON(NDJSON) 으로 내려받습니다.
+     * 목록 전체를 만들지 않고 읽는 대로 응답에 쓰므로 내역 길이와 관계없이 메모리 사용량이 일정합니다.
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistory(@PathVariable Long id) {
+        StreamingResponseBody body = outputStream -> pointService.exportPointHistory(id, history -> {
+            outputStream.write(objectMapper.writeValueAsBytes(history));
+            outputStream.write('\n');
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 특정 유저의 누적 충전/사용 합계와 최근 days 일(기본 30일)의 일자별 합계를 조회합니다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(@PathVariable Long id, @RequestParam(defaultValue = "30") int days) {
+        return pointService.checkPointSummary(id, days);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/charge")
-    public UserPoint charge(@PathVariable Long id, @RequestBody PointRequest pointRequest) throws Exception {
-        return pointService.chargePoint(pointRequest.toDto(id, pointRequest.amount()));
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable Long id,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody PointRequest pointRequest
+    ) {
+        return pointAsyncService.chargePoint(id, pointRequest.amount(), idempotencyKey);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/use")
-    public UserPoint use(@PathVariable Long id, @RequestBody PointRequest pointRequest) throws Exception {
-        return pointService.usePoint(pointRequest.toDto(id, pointRequest.amount()));
+    public CompletableFuture<UserPoint> use(
+            @PathVariable Long id,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody PointRequest pointRequest
+    ) {
+        return pointAsyncService.usePoint(id, pointRequest.amount(), idempotencyKey);
+    }
+
+    /**
+     * 여러 사용자의 포인트 충전/사용을 한 번에 처리합니다.
+     * 항목마다 성공 여부와 결과를 요청과 같은 순서로 반환합니다.
+     */
+    @PostMapping("batch")
+    public List<PointBatchResponse> batch(
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+            @RequestBody List<PointBatchRequest> requests
+    ) throws InterruptedException {
+        return pointBatchService.execute(requests.stream()
+                .map(PointBatchRequest::commandOf)
+                .toList(), idempotencyKey);
     }
 }
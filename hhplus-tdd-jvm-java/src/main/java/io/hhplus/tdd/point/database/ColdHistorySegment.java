@@ -0,0 +1,423 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 콜드 계층의 불변 내역 세그먼트 파일입니다.
+ * 사용자 id 오름차순으로 블록이 이어지고, 블록마다 한 사용자의 내역을 최대 BLOCK_ENTRIES 건까지
+ * 이전 내역과의 id/시각 차이와 금액을 zigzag varint 로 인코딩해 담습니다. (보통 한 건에 5~8바이트)
+ * 블록 헤더에 id/시각 범위와 길이가 있어 필요 없는 블록은 본문을 읽지 않고 건너뜁니다.
+ * 파일 끝에는 INDEX_INTERVAL 블록마다 사용자 시작 위치를 기록한 희소 색인이 있으며,
+ * 색인은 힙에 올리지 않고 파일에서 이진 탐색하므로 세그먼트가 차지하는 힙은 내역 양과 무관합니다.
+ */
+final class ColdHistorySegment {
+
+    static final int BLOCK_ENTRIES = 1024;
+    private static final int MAGIC = 0x50485347;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8;
+    // userId, count, firstId, lastId, minTime, maxTime, byteLength
+    private static final int BLOCK_HEADER_BYTES = 8 + 4 + 8 + 8 + 8 + 8 + 4;
+    private static final int INDEX_ENTRY_BYTES = 16;
+    private static final int INDEX_INTERVAL = 64;
+    // indexOffset, firstSequence, indexCount, blockCount, firstUserId, lastUserId, magic
+    private static final int FOOTER_BYTES = 8 + 8 + 4 + 4 + 8 + 8 + 4;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path path;
+    private final long sequence;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final long indexOffset;
+    private final int indexCount;
+    private final long firstUserId;
+    private final long lastUserId;
+
+    private ColdHistorySegment(Path path, long sequence, long firstSequence, FileChannel channel,
+                               long indexOffset, int indexCount, long firstUserId, long lastUserId) {
+        this.path = path;
+        this.sequence = sequence;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.indexOffset = indexOffset;
+        this.indexCount = indexCount;
+        this.firstUserId = firstUserId;
+        this.lastUserId = lastUserId;
+    }
+
+    static ColdHistorySegment open(Path path, long sequence) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < FILE_HEADER_BYTES + FOOTER_BYTES) {
+                throw new IOException("truncated history segment: " + path);
+            }
+            ByteBuffer header = read(channel, 0, FILE_HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("not a history segment: " + path);
+            }
+            ByteBuffer footer = read(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            long firstSequence = footer.getLong();
+            int indexCount = footer.getInt();
+            footer.getInt();
+            long firstUserId = footer.getLong();
+            long lastUserId = footer.getLong();
+            if (footer.getInt() != MAGIC) {
+                throw new IOException("history segment footer is corrupt: " + path);
+            }
+            return new ColdHistorySegment(path, sequence, firstSequence, channel, indexOffset, indexCount, firstUserId, lastUserId);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static Writer writer(Path path, long sequence, long firstSequence) throws IOException {
+        return new Writer(path, sequence, firstSequence);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    /**
+     * 블록이 차지하는 바이트 수입니다. 병합할 세그먼트를 크기로 고를 때 사용합니다.
+     */
+    long dataBytes() {
+        return indexOffset;
+    }
+
+    /**
+     * 이 세그먼트가 병합해 대체한 가장 오래된 세그먼트 번호입니다. 병합되지 않은 세그먼트는 자기 번호입니다.
+     */
+    long firstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * 사용자의 내역 중 id 가 afterId 초과 untilId 이하이고 시각이 fromTime 이상 toTime 미만인 내역을 id 순서로 전달합니다.
+     *
+     * @return visitor 가 중단을 요청하면 false
+     */
+    boolean scan(long userId, long afterId, long untilId, long fromTime, long toTime, EntryVisitor visitor) throws IOException {
+        long position = firstBlockOf(userId);
+        if (position < 0) {
+            return true;
+        }
+        EntryVisitor filtered = (id, type, amount, timeMillis) ->
+                id <= afterId || id > untilId || timeMillis < fromTime || timeMillis >= toTime || visitor.visit(id, type, amount, timeMillis);
+        while (position < indexOffset) {
+            BlockHeader block = header(position);
+            if (block.userId() > userId || (block.userId() == userId && block.firstId() > untilId)) {
+                break;
+            }
+            if (block.userId() == userId && block.lastId() > afterId && block.maxTime() >= fromTime && block.minTime() < toTime
+                    && !decode(block, filtered)) {
+                return false;
+            }
+            position = block.next();
+        }
+        return true;
+    }
+
+    BlockCursor cursor() throws IOException {
+        return new BlockCursor();
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    private long firstBlockOf(long userId) throws IOException {
+        if (indexCount == 0 || userId < firstUserId || userId > lastUserId) {
+            return -1;
+        }
+        // 색인 항목은 항상 사용자의 첫 블록을 가리키므로, userId 이하인 마지막 항목부터 훑으면 됩니다.
+        long position = FILE_HEADER_BYTES;
+        int low = 0;
+        int high = indexCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            ByteBuffer entry = read(channel, indexOffset + (long) mid * INDEX_ENTRY_BYTES, INDEX_ENTRY_BYTES);
+            if (entry.getLong() <= userId) {
+                position = entry.getLong();
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return position;
+    }
+
+    private BlockHeader header(long position) throws IOException {
+        ByteBuffer header = read(channel, position, BLOCK_HEADER_BYTES);
+        return new BlockHeader(position, header.getLong(), header.getInt(), header.getLong(), header.getLong(),
+                header.getLong(), header.getLong(), header.getInt());
+    }
+
+    private boolean decode(BlockHeader block, EntryVisitor visitor) throws IOException {
+        ByteBuffer body = read(channel, block.position() + BLOCK_HEADER_BYTES, block.byteLength());
+        long id = 0L;
+        long timeMillis = 0L;
+        for (int i = 0; i < block.count(); i++) {
+            id += unzigzag(readVarLong(body));
+            timeMillis += unzigzag(readVarLong(body));
+            long amount = unzigzag(readVarLong(body));
+            TransactionType type = TYPES[body.get()];
+            if (!visitor.visit(id, type, amount, timeMillis)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("history segment ended at " + (position + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0L;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    @FunctionalInterface
+    interface EntryVisitor {
+        boolean visit(long id, TransactionType type, long amount, long timeMillis) throws IOException;
+    }
+
+    private record BlockHeader(long position, long userId, int count, long firstId, long lastId,
+                               long minTime, long maxTime, int byteLength) {
+
+        private long next() {
+            return position + BLOCK_HEADER_BYTES + byteLength;
+        }
+    }
+
+    /**
+     * 블록을 파일 순서대로 훑습니다. 세그먼트 병합과 시작 시 사용자별 콜드 범위 복구에 사용합니다.
+     */
+    final class BlockCursor {
+
+        private BlockHeader current;
+
+        private BlockCursor() throws IOException {
+            current = FILE_HEADER_BYTES < indexOffset ? header(FILE_HEADER_BYTES) : null;
+        }
+
+        boolean hasBlock() {
+            return current != null;
+        }
+
+        long userId() {
+            return current.userId();
+        }
+
+        long lastId() {
+            return current.lastId();
+        }
+
+        void decode(EntryVisitor visitor) throws IOException {
+            ColdHistorySegment.this.decode(current, visitor);
+        }
+
+        void advance() throws IOException {
+            long next = current.next();
+            current = next < indexOffset ? header(next) : null;
+        }
+    }
+
+    /**
+     * 임시 파일에 블록을 이어 쓴 뒤 finish 에서 색인과 꼬리말을 붙이고 원자적으로 이름을 바꿉니다.
+     * 사용자는 beginUser 로 id 오름차순으로 시작하고, 내역은 add 로 id 순서대로 추가합니다.
+     */
+    static final class Writer implements AutoCloseable {
+
+        private final Path target;
+        private final Path temporary;
+        private final long sequence;
+        private final long firstSequence;
+        private final FileChannel channel;
+        private final DataOutputStream out;
+        private final List<long[]> index = new ArrayList<>();
+        private long offset = FILE_HEADER_BYTES;
+        private int blockCount;
+        private int blocksSinceIndex;
+        private boolean hasUser;
+        private long firstUserId;
+        private long currentUserId;
+        private boolean finished;
+
+        // 인코딩 중인 블록
+        private byte[] buffer = new byte[4096];
+        private int length;
+        private int count;
+        private long firstId;
+        private long lastId;
+        private long minTime;
+        private long maxTime;
+        private long previousId;
+        private long previousTime;
+
+        private Writer(Path target, long sequence, long firstSequence) throws IOException {
+            this.target = target;
+            this.temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            this.sequence = sequence;
+            this.firstSequence = firstSequence;
+            this.channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+        }
+
+        void beginUser(long userId) throws IOException {
+            flushBlock();
+            if (hasUser && userId <= currentUserId) {
+                throw new IllegalArgumentException("users must be written in ascending order: " + userId + " after " + currentUserId);
+            }
+            if (!hasUser) {
+                firstUserId = userId;
+            }
+            if (!hasUser || blocksSinceIndex >= INDEX_INTERVAL) {
+                index.add(new long[]{userId, offset});
+                blocksSinceIndex = 0;
+            }
+            hasUser = true;
+            currentUserId = userId;
+        }
+
+        void add(long id, TransactionType type, long amount, long timeMillis) throws IOException {
+            if (count == BLOCK_ENTRIES) {
+                flushBlock();
+            }
+            if (count == 0) {
+                firstId = id;
+                lastId = id;
+                minTime = timeMillis;
+                maxTime = timeMillis;
+                previousId = 0L;
+                previousTime = 0L;
+            }
+            writeVarLong(zigzag(id - previousId));
+            writeVarLong(zigzag(timeMillis - previousTime));
+            writeVarLong(zigzag(amount));
+            ensureCapacity(1);
+            buffer[length++] = (byte) type.ordinal();
+            previousId = id;
+            previousTime = timeMillis;
+            firstId = Math.min(firstId, id);
+            lastId = Math.max(lastId, id);
+            minTime = Math.min(minTime, timeMillis);
+            maxTime = Math.max(maxTime, timeMillis);
+            count++;
+        }
+
+        boolean isEmpty() {
+            return blockCount == 0 && count == 0;
+        }
+
+        ColdHistorySegment finish() throws IOException {
+            flushBlock();
+            long indexOffset = offset;
+            for (long[] entry : index) {
+                out.writeLong(entry[0]);
+                out.writeLong(entry[1]);
+            }
+            out.writeLong(indexOffset);
+            out.writeLong(firstSequence);
+            out.writeInt(index.size());
+            out.writeInt(blockCount);
+            out.writeLong(firstUserId);
+            out.writeLong(currentUserId);
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+            out.close();
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            finished = true;
+            return open(target, sequence);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                out.close();
+                Files.deleteIfExists(temporary);
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (count == 0) {
+                return;
+            }
+            out.writeLong(currentUserId);
+            out.writeInt(count);
+            out.writeLong(firstId);
+            out.writeLong(lastId);
+            out.writeLong(minTime);
+            out.writeLong(maxTime);
+            out.writeInt(length);
+            out.write(buffer, 0, length);
+            offset += BLOCK_HEADER_BYTES + length;
+            blockCount++;
+            blocksSinceIndex++;
+            count = 0;
+            length = 0;
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (length + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+    }
+}
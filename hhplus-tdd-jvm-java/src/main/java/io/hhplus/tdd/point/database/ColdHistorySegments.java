@@ -0,0 +1,312 @@
+package io.hhplus.tdd.point.database;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+/**
+ * hot-age 보다 오래된 내역을 옮겨 두는 콜드 계층입니다. 디렉터리 안의 불변 세그먼트(ColdHistorySegment)들로 구성되며,
+ * 세그먼트 번호가 작을수록 오래된 내역을 담습니다.
+ * 크기가 비슷한 인접 세그먼트가 MERGE_FACTOR 개 모이면 하나로 병합하는 크기 계층 방식이라, 한 내역이 다시 쓰이는 횟수는
+ * 전체 내역 양의 로그에 비례하고 세그먼트 수도 로그 수준으로 유지됩니다. 크기가 고르지 않아 묶음이 생기지 않더라도
+ * 세그먼트가 MAX_SEGMENTS 개를 넘으면 가장 작은 인접 묶음을 병합합니다.
+ * 병합으로 대체된 세그먼트는 진행 중인 조회가 끝날 수 있도록 다음 병합 때 닫습니다.
+ */
+@Slf4j
+@Component
+public class ColdHistorySegments implements AutoCloseable {
+
+    private static final String PREFIX = "history-";
+    private static final String SUFFIX = ".seg";
+    private static final int MERGE_FACTOR = 4;
+    private static final long SIMILAR_SIZE_RATIO = 2L;
+    private static final int MAX_SEGMENTS = 32;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration hotAge;
+    private final Duration interval;
+
+    private volatile List<ColdHistorySegment> segments = List.of();
+    private List<ColdHistorySegment> retired = List.of();
+    private long nextSequence = 1L;
+
+    /**
+     * 모든 내역을 메모리에 두는 (계층을 나누지 않는) 설정입니다.
+     */
+    public static ColdHistorySegments disabled() {
+        return new ColdHistorySegments(false, null, Duration.ZERO, Duration.ZERO);
+    }
+
+    public ColdHistorySegments(Path directory, Duration hotAge, Duration interval) {
+        this(true, directory, hotAge, interval);
+    }
+
+    @Autowired
+    public ColdHistorySegments(
+            @Value("${point.history.tiering.enabled:false}") boolean enabled,
+            @Value("${point.history.tiering.directory:data/history}") Path directory,
+            @Value("${point.history.tiering.hot-age:3d}") Duration hotAge,
+            @Value("${point.history.tiering.interval:10m}") Duration interval
+    ) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.hotAge = hotAge;
+        this.interval = interval;
+        if (enabled) {
+            open();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration hotAge() {
+        return hotAge;
+    }
+
+    public Duration interval() {
+        return interval;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 저널 없이 시작하면 내역 id 가 1부터 다시 발급되므로 이전 실행의 세그먼트를 모두 지웁니다.
+     */
+    public synchronized void clear() {
+        for (ColdHistorySegment segment : segments) {
+            closeQuietly(segment);
+            delete(segment.path());
+        }
+        segments = List.of();
+    }
+
+    /**
+     * 블록마다 (사용자 id, 블록의 마지막 내역 id) 를 전달합니다.
+     */
+    void forEachBlock(BiConsumer<Long, Long> consumer) {
+        try {
+            for (ColdHistorySegment segment : segments) {
+                for (ColdHistorySegment.BlockCursor cursor = segment.cursor(); cursor.hasBlock(); cursor.advance()) {
+                    consumer.accept(cursor.userId(), cursor.lastId());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 오래된 세그먼트부터 조건에 맞는 내역을 id 순서로 전달합니다. (ColdHistorySegment#scan 참고)
+     */
+    void scan(long userId, long afterId, long untilId, long fromTime, long toTime, ColdHistorySegment.EntryVisitor visitor) {
+        try {
+            for (ColdHistorySegment segment : segments) {
+                if (!segment.scan(userId, afterId, untilId, fromTime, toTime, visitor)) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized ColdHistorySegment.Writer newWriter() throws IOException {
+        long sequence = nextSequence++;
+        return ColdHistorySegment.writer(path(sequence), sequence, sequence);
+    }
+
+    /**
+     * 다 쓴 세그먼트를 조회 대상에 추가합니다. 이 메서드가 반환된 뒤에는 새 세그먼트의 내역이 조회됩니다.
+     */
+    synchronized void publish(ColdHistorySegment.Writer writer) throws IOException {
+        List<ColdHistorySegment> published = new ArrayList<>(segments);
+        published.add(writer.finish());
+        segments = List.copyOf(published);
+        List<ColdHistorySegment> replaced = new ArrayList<>();
+        for (int from = mergeCandidate(); from >= 0; from = mergeCandidate()) {
+            replaced.addAll(merge(from, from + MERGE_FACTOR));
+        }
+        if (!replaced.isEmpty()) {
+            List<ColdHistorySegment> previous = retired;
+            retired = replaced;
+            previous.forEach(ColdHistorySegments::closeQuietly);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        retired.forEach(ColdHistorySegments::closeQuietly);
+        segments.forEach(ColdHistorySegments::closeQuietly);
+    }
+
+    /**
+     * 크기가 비슷한(가장 큰 것이 가장 작은 것의 SIMILAR_SIZE_RATIO 배 이하) 인접 세그먼트 MERGE_FACTOR 개의 시작 위치를 최근 것부터 찾습니다.
+     * 그런 묶음이 없어도 세그먼트가 MAX_SEGMENTS 개를 넘으면 합친 크기가 가장 작은 인접 묶음을 고릅니다. 병합할 묶음이 없으면 -1 입니다.
+     */
+    private int mergeCandidate() {
+        List<ColdHistorySegment> current = segments;
+        int smallest = -1;
+        long smallestBytes = Long.MAX_VALUE;
+        for (int from = current.size() - MERGE_FACTOR; from >= 0; from--) {
+            long min = Long.MAX_VALUE;
+            long max = 0L;
+            long total = 0L;
+            for (int i = from; i < from + MERGE_FACTOR; i++) {
+                long bytes = current.get(i).dataBytes();
+                min = Math.min(min, bytes);
+                max = Math.max(max, bytes);
+                total += bytes;
+            }
+            if (max <= min * SIMILAR_SIZE_RATIO) {
+                return from;
+            }
+            if (total < smallestBytes) {
+                smallestBytes = total;
+                smallest = from;
+            }
+        }
+        return current.size() > MAX_SEGMENTS ? smallest : -1;
+    }
+
+    /**
+     * segments 의 [from, to) 를 하나로 병합합니다. 병합본은 가장 최근 원본의 번호와 경로를 이어받으므로,
+     * 번호 순서가 곧 내역의 오래된 순서라는 규칙이 유지되고 병합하지 않은 세그먼트는 다시 쓰지 않습니다.
+     *
+     * @return 병합으로 대체된 원본 세그먼트
+     */
+    private List<ColdHistorySegment> merge(int from, int to) throws IOException {
+        List<ColdHistorySegment> current = segments;
+        List<ColdHistorySegment> sources = List.copyOf(current.subList(from, to));
+        ColdHistorySegment last = sources.get(sources.size() - 1);
+        ColdHistorySegment merged;
+        try (ColdHistorySegment.Writer writer = ColdHistorySegment.writer(last.path(), last.sequence(), sources.get(0).firstSequence())) {
+            List<ColdHistorySegment.BlockCursor> cursors = new ArrayList<>(sources.size());
+            for (ColdHistorySegment source : sources) {
+                cursors.add(source.cursor());
+            }
+            while (true) {
+                boolean remaining = false;
+                long userId = Long.MAX_VALUE;
+                for (ColdHistorySegment.BlockCursor cursor : cursors) {
+                    if (cursor.hasBlock()) {
+                        remaining = true;
+                        userId = Math.min(userId, cursor.userId());
+                    }
+                }
+                if (!remaining) {
+                    break;
+                }
+                // 같은 사용자의 블록은 오래된 세그먼트부터 이어 붙이면 id 순서가 유지됩니다.
+                writer.beginUser(userId);
+                for (ColdHistorySegment.BlockCursor cursor : cursors) {
+                    while (cursor.hasBlock() && cursor.userId() == userId) {
+                        cursor.decode((id, type, amount, timeMillis) -> {
+                            writer.add(id, type, amount, timeMillis);
+                            return true;
+                        });
+                        cursor.advance();
+                    }
+                }
+            }
+            merged = writer.finish();
+        }
+
+        List<ColdHistorySegment> next = new ArrayList<>(current.subList(0, from));
+        next.add(merged);
+        next.addAll(current.subList(to, current.size()));
+        segments = List.copyOf(next);
+        // 마지막 원본의 경로는 병합본이 이미 대체했습니다.
+        for (ColdHistorySegment source : sources) {
+            if (source != last) {
+                delete(source.path());
+            }
+        }
+        log.info("merged {} history segments into {}", sources.size(), merged.path());
+        return sources;
+    }
+
+    private void open() {
+        List<ColdHistorySegment> opened = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            for (Path path : list()) {
+                long sequence = sequenceOf(path);
+                nextSequence = Math.max(nextSequence, sequence + 1);
+                try {
+                    opened.add(ColdHistorySegment.open(path, sequence));
+                } catch (IOException e) {
+                    log.warn("history segment {} is unreadable, skipping it", path, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // 병합 후 원본을 지우기 전에 종료되었다면 병합된 세그먼트가 원본을 대체합니다.
+        List<ColdHistorySegment> superseded = new ArrayList<>();
+        for (ColdHistorySegment merged : opened) {
+            for (ColdHistorySegment source : opened) {
+                if (source.sequence() < merged.sequence() && source.sequence() >= merged.firstSequence()) {
+                    superseded.add(source);
+                }
+            }
+        }
+        for (ColdHistorySegment source : superseded) {
+            closeQuietly(source);
+            delete(source.path());
+        }
+        opened.removeAll(superseded);
+        segments = List.copyOf(opened);
+    }
+
+    private List<Path> list() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingLong(ColdHistorySegments::sequenceOf))
+                    .toList();
+        }
+    }
+
+    private Path path(long sequence) {
+        return directory.resolve(String.format("%s%010d%s", PREFIX, sequence, SUFFIX));
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static void closeQuietly(ColdHistorySegment segment) {
+        try {
+            segment.close();
+        } catch (IOException e) {
+            log.warn("failed to close history segment {}", segment.path(), e);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("failed to delete history segment {}", path, e);
+        }
+    }
+}
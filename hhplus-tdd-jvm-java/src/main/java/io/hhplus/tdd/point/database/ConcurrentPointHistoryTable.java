@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PointHistoryTable 의 공개 API 와 지연(throttle)을 그대로 따르되, 동시 호출에 안전한 운영용 테이블입니다.
+ * id 발급과 추가만 짧은 쓰기 잠금 안에서 실행하고 지연은 잠금 밖에서 기다리므로, 서로 다른 사용자의 내역 추가가 겹쳐 진행됩니다.
+ * 잠금 안에서 id 를 발급하고 바로 추가하므로 목록은 id 순서를 유지합니다. (@Primary 로 원본 대신 주입됩니다)
+ */
+@Primary
+@Component
+public class ConcurrentPointHistoryTable extends PointHistoryTable implements ConcurrentTable {
+
+    private static final long THROTTLE_MILLIS = 300L;
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long cursor = 1L;
+
+    @Override
+    public PointHistory insert(Long id, Long amount, TransactionType transactionType, Long updateMillis) throws InterruptedException {
+        throttle();
+        lock.writeLock().lock();
+        try {
+            PointHistory history = new PointHistory(cursor++, id, transactionType, amount, updateMillis);
+            table.add(history);
+            return history;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(Long userId) {
+        lock.readLock().lock();
+        try {
+            return table.stream()
+                    .filter(it -> it.userId().equals(userId))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void throttle() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep((long) (Math.random() * THROTTLE_MILLIS));
+    }
+}
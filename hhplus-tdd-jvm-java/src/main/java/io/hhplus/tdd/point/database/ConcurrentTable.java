@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point.database;
+
+/**
+ * 여러 스레드가 동시에 호출해도 안전한 UserPointTable/PointHistoryTable 구현임을 표시합니다.
+ * 표시가 없는 테이블은 저장소가 TableGuard 로 호출을 직렬화합니다.
+ */
+public interface ConcurrentTable {
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPointTable 의 공개 API 와 지연(throttle)을 그대로 따르되, 동시 호출에 안전한 운영용 테이블입니다.
+ * 원본 테이블은 잠금 없는 HashMap 을 사용하므로 TableGuard 가 테이블 단위로 호출을 직렬화해야 하고,
+ * 그러면 지연 동안 잠금을 쥐고 있어 서로 다른 사용자의 요청도 한 번에 하나씩만 처리됩니다.
+ * 이 테이블은 ConcurrentHashMap 을 사용하므로 직렬화 없이 사용자마다 병렬로 호출됩니다. (@Primary 로 원본 대신 주입됩니다)
+ */
+@Primary
+@Component
+public class ConcurrentUserPointTable extends UserPointTable implements ConcurrentTable {
+
+    private static final long THROTTLE_MILLIS = 300L;
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(Long id) throws InterruptedException {
+        throttle();
+        UserPoint userPoint = table.get(id);
+        if (userPoint == null) {
+            return new UserPoint(id, 0L, System.currentTimeMillis());
+        }
+        return userPoint;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(Long id, Long amount) throws InterruptedException {
+        throttle();
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    private static void throttle() throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep((long) (Math.random() * THROTTLE_MILLIS));
+    }
+}
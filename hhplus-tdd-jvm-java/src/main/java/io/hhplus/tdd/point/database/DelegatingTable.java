@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.database;
+
+/**
+ * 다른 UserPointTable/PointHistoryTable 에 위임하는 래퍼입니다.
+ * TableGuard 는 래퍼가 아니라 실제로 데이터를 가진 delegate 를 기준으로 잠금 여부와 잠금 인스턴스를 정합니다.
+ */
+public interface DelegatingTable {
+
+    Object delegate();
+}
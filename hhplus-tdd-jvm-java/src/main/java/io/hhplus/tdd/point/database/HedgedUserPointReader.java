@@ -0,0 +1,223 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.support.LatencyHistogram;
+import io.hhplus.tdd.point.support.PointExecutors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * UserPointTable.selectById 에 헤지 요청을 적용합니다.
+ * 첫 조회가 최근 관측한 지연 시간의 지정 백분위 안에 끝나지 않으면 같은 조회를 한 번 더 요청하고, 먼저 끝난 결과를 사용합니다.
+ * 지연 분포는 window 단위로 새로 집계하므로 오래전 관측치는 지연 기준에 남지 않습니다. 관측치가 충분히 쌓이기 전에는 initial-delay 를 사용합니다.
+ * 테이블 전체가 느려졌을 때 헤지가 부하를 두 배로 늘리지 않도록, 헤지 요청은 전체 조회의 max-rate 비율 안에서만 보냅니다.
+ * 조회는 UserPointStore 의 저장과 같은 TableGuard 를 사용하므로, 원본 테이블이면 저장 중에는 조회를 시작하지 않습니다.
+ */
+@Component
+public class HedgedUserPointReader implements AutoCloseable {
+
+    private static final int MIN_SAMPLES = 100;
+    private static final int DELAY_REFRESH_INTERVAL = 64;
+    private static final long HEDGE_TOKEN = 1_000L;
+    private static final long MAX_HEDGE_BURST = 10L * HEDGE_TOKEN;
+
+    private final UserPointTable userPointTable;
+    private final TableGuard tableGuard;
+    private final boolean enabled;
+    private final double percentile;
+    private final long minDelayMillis;
+    private final long hedgeTokensPerRead;
+    private final long windowNanos;
+    private final ExecutorService readExecutor;
+    private final AtomicLong hedgeBudget = new AtomicLong(MAX_HEDGE_BURST);
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder hedgesSkipped = new LongAdder();
+    private volatile LatencyHistogram latencies = newHistogram();
+    private volatile long windowStartedAt = System.nanoTime();
+    private volatile long delayMillis;
+
+    public HedgedUserPointReader(UserPointTable userPointTable) {
+        this(userPointTable, false, 95.0, Duration.ofMillis(10), Duration.ofMillis(100), 0);
+    }
+
+    public HedgedUserPointReader(UserPointTable userPointTable, boolean enabled, double percentile, Duration minDelay, Duration initialDelay, int threads) {
+        this(userPointTable, enabled, percentile, minDelay, initialDelay, threads, 0.1, Duration.ofSeconds(10), false);
+    }
+
+    @Autowired
+    public HedgedUserPointReader(
+            UserPointTable userPointTable,
+            @Value("${point.hedge.enabled:false}") boolean enabled,
+            @Value("${point.hedge.percentile:95}") double percentile,
+            @Value("${point.hedge.min-delay:10ms}") Duration minDelay,
+            @Value("${point.hedge.initial-delay:100ms}") Duration initialDelay,
+            @Value("${point.hedge.threads:64}") int threads,
+            @Value("${point.hedge.max-rate:0.1}") double maxRate,
+            @Value("${point.hedge.window:10s}") Duration window,
+            @Value("${point.executor.virtual-threads:false}") boolean virtualThreads
+    ) {
+        this.userPointTable = userPointTable;
+        this.tableGuard = TableGuard.of(userPointTable);
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minDelayMillis = minDelay.toMillis();
+        this.delayMillis = Math.max(minDelayMillis, initialDelay.toMillis());
+        this.hedgeTokensPerRead = Math.round(Math.max(0.0, Math.min(1.0, maxRate)) * HEDGE_TOKEN);
+        this.windowNanos = window.toNanos();
+        this.readExecutor = enabled ? PointExecutors.newExecutor("point-hedge", threads, virtualThreads) : null;
+    }
+
+    public UserPoint read(Long userId) throws InterruptedException {
+        if (!enabled) {
+            return tableGuard.read(() -> userPointTable.selectById(userId));
+        }
+        reads.increment();
+        refreshDelay();
+
+        CompletableFuture<UserPoint> primary = CompletableFuture.supplyAsync(() -> timedRead(userId), readExecutor);
+        try {
+            return primary.get(delayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (!tryAcquireHedge()) {
+                hedgesSkipped.increment();
+                return awaitPrimary(primary);
+            }
+            hedges.increment();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+
+        CompletableFuture<UserPoint> hedge = CompletableFuture.supplyAsync(() -> timedRead(userId), readExecutor);
+        CompletableFuture<UserPoint> winner = new CompletableFuture<>();
+        primary.whenComplete((userPoint, e) -> complete(winner, userPoint, e, hedge));
+        hedge.whenComplete((userPoint, e) -> {
+            if (e == null && !primary.isDone()) {
+                hedgeWins.increment();
+            }
+            complete(winner, userPoint, e, primary);
+        });
+        try {
+            return winner.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    public HedgeStats stats() {
+        return new HedgeStats(reads.sum(), hedges.sum(), hedgeWins.sum(), hedgesSkipped.sum(), delayMillis);
+    }
+
+    @Override
+    public void close() {
+        if (readExecutor != null) {
+            readExecutor.shutdown();
+        }
+    }
+
+    // 먼저 성공한 결과를 사용하고, 둘 다 실패한 경우에만 실패로 처리합니다.
+    private static void complete(CompletableFuture<UserPoint> winner, UserPoint userPoint, Throwable e, CompletableFuture<UserPoint> other) {
+        if (e == null) {
+            winner.complete(userPoint);
+        } else if (other.isCompletedExceptionally()) {
+            winner.completeExceptionally(e);
+        }
+    }
+
+    // 조회마다 max-rate 만큼 헤지 예산이 쌓이고, 헤지 한 번에 하나를 씁니다. 순간적으로는 최대 MAX_HEDGE_BURST 까지 헤지할 수 있습니다.
+    private boolean tryAcquireHedge() {
+        long budget = hedgeBudget.updateAndGet(current -> Math.min(MAX_HEDGE_BURST, current + hedgeTokensPerRead));
+        while (budget >= HEDGE_TOKEN) {
+            if (hedgeBudget.compareAndSet(budget, budget - HEDGE_TOKEN)) {
+                return true;
+            }
+            budget = hedgeBudget.get();
+        }
+        return false;
+    }
+
+    private static UserPoint awaitPrimary(CompletableFuture<UserPoint> primary) throws InterruptedException {
+        try {
+            return primary.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private UserPoint timedRead(Long userId) {
+        long startedAt = System.nanoTime();
+        try {
+            UserPoint userPoint = tableGuard.read(() -> userPointTable.selectById(userId));
+            latencies.record(System.nanoTime() - startedAt);
+            return userPoint;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private void refreshDelay() {
+        if (System.nanoTime() - windowStartedAt >= windowNanos) {
+            rotateWindow();
+        } else if (reads.sum() % DELAY_REFRESH_INTERVAL == 0 && latencies.count() >= MIN_SAMPLES) {
+            delayMillis = Math.max(minDelayMillis, latencies.percentileMillis(percentile));
+        }
+    }
+
+    // 끝난 구간의 분포로 지연 기준을 정하고 새 구간을 시작합니다. 관측치가 부족한 구간이면 기존 기준을 유지합니다.
+    private synchronized void rotateWindow() {
+        long now = System.nanoTime();
+        if (now - windowStartedAt < windowNanos) {
+            return;
+        }
+        LatencyHistogram finished = latencies;
+        latencies = newHistogram();
+        windowStartedAt = now;
+        if (finished.count() >= MIN_SAMPLES) {
+            delayMillis = Math.max(minDelayMillis, finished.percentileMillis(percentile));
+        }
+    }
+
+    private static LatencyHistogram newHistogram() {
+        return new LatencyHistogram(2_000);
+    }
+
+    private static RuntimeException unwrap(Throwable cause) throws InterruptedException {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof InterruptedException interruptedException) {
+            throw interruptedException;
+        }
+        return cause instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(cause);
+    }
+
+    public record HedgeStats(
+            long reads,
+            long hedges,
+            long hedgeWins,
+            long hedgesSkipped,
+            long delayMillis
+    ) {
+
+        public double hedgeRate() {
+            return reads == 0 ? 0.0 : (double) hedges / reads;
+        }
+
+        public double winRate() {
+            return hedges == 0 ? 0.0 : (double) hedgeWins / hedges;
+        }
+    }
+}
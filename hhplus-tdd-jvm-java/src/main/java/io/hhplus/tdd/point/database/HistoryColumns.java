@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+import java.util.Arrays;
+
+/**
+ * columnar 저장 방식에서 한 사용자의 내역을 PointHistory 객체 대신 원시 타입 열(long[]/byte[])로 보관합니다.
+ * 이 방식에서는 PointHistoryTable 을 거치지 않으므로 이 열이 내역의 유일한 보관처입니다.
+ * 열은 CHUNK_SIZE 단위 청크로 늘어나며, PointHistory 는 조회 시점에만 만들어집니다.
+ */
+final class HistoryColumns extends HistoryRows {
+
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CAPACITY = 4;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private long[][] ids = new long[1][];
+    private long[][] amounts = new long[1][];
+    private long[][] times = new long[1][];
+    private byte[][] types = new byte[1][];
+    private int size;
+
+    HistoryColumns(long userId) {
+        super(userId);
+        ids[0] = new long[INITIAL_CAPACITY];
+        amounts[0] = new long[INITIAL_CAPACITY];
+        times[0] = new long[INITIAL_CAPACITY];
+        types[0] = new byte[INITIAL_CAPACITY];
+    }
+
+    @Override
+    int size() {
+        return size;
+    }
+
+    @Override
+    long idAt(int index) {
+        return ids[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    long amountAt(int index) {
+        return amounts[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    long timeAt(int index) {
+        return times[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    TransactionType typeAt(int index) {
+        return TYPES[types[index >>> CHUNK_SHIFT][index & CHUNK_MASK]];
+    }
+
+    @Override
+    void append(PointHistory row) {
+        add(row.id(), row.type(), row.amount(), row.timeMillis());
+    }
+
+    @Override
+    void recover(PointHistory history) {
+        add(history.id(), history.type(), history.amount(), history.timeMillis());
+    }
+
+    /**
+     * id 순서를 지키며 추가합니다. 대부분 마지막에 붙으므로 뒤에서부터 자리를 찾습니다.
+     */
+    void add(long id, TransactionType type, long amount, long timeMillis) {
+        ensureCapacity(size);
+        int index = size;
+        while (index > 0 && idAt(index - 1) > id) {
+            set(index, idAt(index - 1), typeAt(index - 1), amountAt(index - 1), timeAt(index - 1));
+            index--;
+        }
+        set(index, id, type, amount, timeMillis);
+        size++;
+        checkTimeOrder(index);
+    }
+
+    @Override
+    HistoryColumns tail(int from) {
+        HistoryColumns tail = new HistoryColumns(userId);
+        for (int index = from; index < size; index++) {
+            tail.add(idAt(index), typeAt(index), amountAt(index), timeAt(index));
+        }
+        return tail;
+    }
+
+    private void set(int index, long id, TransactionType type, long amount, long timeMillis) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int offset = index & CHUNK_MASK;
+        ids[chunk][offset] = id;
+        amounts[chunk][offset] = amount;
+        times[chunk][offset] = timeMillis;
+        types[chunk][offset] = (byte) type.ordinal();
+    }
+
+    private void ensureCapacity(int index) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int offset = index & CHUNK_MASK;
+        if (chunk == ids.length) {
+            ids = Arrays.copyOf(ids, chunk * 2);
+            amounts = Arrays.copyOf(amounts, chunk * 2);
+            times = Arrays.copyOf(times, chunk * 2);
+            types = Arrays.copyOf(types, chunk * 2);
+        }
+        if (ids[chunk] == null) {
+            ids[chunk] = new long[CHUNK_SIZE];
+            amounts[chunk] = new long[CHUNK_SIZE];
+            times[chunk] = new long[CHUNK_SIZE];
+            types[chunk] = new byte[CHUNK_SIZE];
+        } else if (offset == ids[chunk].length) {
+            // 첫 청크만 CHUNK_SIZE 까지 두 배씩 늘어납니다.
+            int capacity = Math.min(CHUNK_SIZE, offset * 2);
+            ids[chunk] = Arrays.copyOf(ids[chunk], capacity);
+            amounts[chunk] = Arrays.copyOf(amounts[chunk], capacity);
+            times[chunk] = Arrays.copyOf(times[chunk], capacity);
+            types[chunk] = Arrays.copyOf(types[chunk], capacity);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 사용자의 내역을 id 오름차순으로 보관하는 PointHistoryStore 의 색인입니다.
+ * 보관 방식(HistoryColumns, TableHistoryRows)과 관계없이 위치별 값으로 id/시각 위치를 찾고 구간을 PointHistory 로 잘라 돌려줍니다.
+ * 한 사용자의 내역은 순서대로 기록되므로 보통 시각도 오름차순이며, 이 경우 시각 범위 조회를 이진 탐색으로 처리합니다.
+ * 시계가 뒤로 가는 등 시각 순서가 어긋난 내역이 한 번이라도 들어오면 해당 사용자는 전체를 훑어 조회합니다.
+ * 동기화는 호출하는 쪽에서 담당합니다.
+ */
+abstract class HistoryRows {
+
+    final long userId;
+    private boolean timeOrdered = true;
+
+    HistoryRows(long userId) {
+        this.userId = userId;
+    }
+
+    abstract int size();
+
+    abstract long idAt(int index);
+
+    abstract long amountAt(int index);
+
+    abstract long timeAt(int index);
+
+    abstract TransactionType typeAt(int index);
+
+    /**
+     * 새로 기록된 행을 추가합니다. 행은 저장 방식이 돌려준 그대로이며, 테이블 행이면 재시작 전 id 를 더하기 전의 값입니다.
+     */
+    abstract void append(PointHistory row);
+
+    /**
+     * 저널에서 복구한 행을 추가합니다. id 는 이미 최종 값입니다.
+     */
+    abstract void recover(PointHistory history);
+
+    /**
+     * from 부터 끝까지의 행만 담은 새 색인을 만듭니다.
+     */
+    abstract HistoryRows tail(int from);
+
+    PointHistory get(int index) {
+        return new PointHistory(idAt(index), userId, typeAt(index), amountAt(index), timeAt(index));
+    }
+
+    /**
+     * id 가 주어진 값보다 큰 첫 위치를 반환합니다.
+     */
+    int firstIndexAfter(long id) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idAt(mid) <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 시각이 from 이상 to 미만이고 유형이 type 인(null 이면 전체) 내역을 id 순서로 반환합니다.
+     */
+    List<PointHistory> selectByTime(long from, long to, TransactionType type) {
+        List<PointHistory> histories = new ArrayList<>();
+        int size = size();
+        for (int index = timeOrdered ? firstIndexAtOrAfterTime(from) : 0; index < size; index++) {
+            long timeMillis = timeAt(index);
+            if (timeOrdered && timeMillis >= to) {
+                break;
+            }
+            if (timeMillis < from || timeMillis >= to || (type != null && typeAt(index) != type)) {
+                continue;
+            }
+            histories.add(get(index));
+        }
+        return histories;
+    }
+
+    /**
+     * id 가 afterId 보다 크고 시각이 from 이상 to 미만이며 유형이 type 인(null 이면 전체) 내역을 id 순서로 최대 limit 건 반환합니다.
+     */
+    List<PointHistory> page(long afterId, long from, long to, TransactionType type, int limit) {
+        List<PointHistory> histories = new ArrayList<>();
+        int size = size();
+        int start = firstIndexAfter(afterId);
+        if (timeOrdered) {
+            start = Math.max(start, firstIndexAtOrAfterTime(from));
+        }
+        for (int index = start; index < size && histories.size() < limit; index++) {
+            long timeMillis = timeAt(index);
+            if (timeOrdered && timeMillis >= to) {
+                break;
+            }
+            if (timeMillis < from || timeMillis >= to || (type != null && typeAt(index) != type)) {
+                continue;
+            }
+            histories.add(get(index));
+        }
+        return histories;
+    }
+
+    /**
+     * 앞에서부터 시각이 timeMillis 보다 이른 내역의 수를 반환합니다. 시각 순서가 어긋난 경우 처음으로 timeMillis 이상인 내역에서 멈춥니다.
+     */
+    int countBefore(long timeMillis) {
+        if (timeOrdered) {
+            return firstIndexAtOrAfterTime(timeMillis);
+        }
+        int index = 0;
+        while (index < size() && timeAt(index) < timeMillis) {
+            index++;
+        }
+        return index;
+    }
+
+    List<PointHistory> slice(int from, int to) {
+        List<PointHistory> histories = new ArrayList<>(Math.max(0, to - from));
+        for (int index = from; index < to; index++) {
+            histories.add(get(index));
+        }
+        return histories;
+    }
+
+    /**
+     * index 에 새로 놓인 행이 앞뒤 행과 시각 순서가 어긋나는지 확인합니다.
+     */
+    void checkTimeOrder(int index) {
+        long timeMillis = timeAt(index);
+        if ((index > 0 && timeAt(index - 1) > timeMillis) || (index + 1 < size() && timeAt(index + 1) < timeMillis)) {
+            timeOrdered = false;
+        }
+    }
+
+    /**
+     * 행을 다시 넣지 않고 잘라 만든 색인은 원래 색인의 시각 순서 여부를 이어받습니다.
+     */
+    void inheritTimeOrder(HistoryRows source) {
+        timeOrdered = source.timeOrdered;
+    }
+
+    private int firstIndexAtOrAfterTime(long timeMillis) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timeAt(mid) < timeMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
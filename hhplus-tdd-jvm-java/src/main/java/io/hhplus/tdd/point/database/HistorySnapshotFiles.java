@@ -0,0 +1,168 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.journal.JournalPosition;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * PointHistoryStore 의 색인 스냅숏을 이진 파일로 읽고 씁니다.
+ * 헤더(매직, 버전, 저널 위치, 사용자 수) 뒤에 사용자별 본문이 오고 CRC 로 끝납니다. 본문의 형식은 PointHistoryStore 가 정합니다.
+ * 잔액 스냅숏과 같은 저널 디렉터리에 두며, 파일 이름에 저널 위치가 들어가므로 이름순으로 가장 마지막 파일이 최신 스냅숏입니다.
+ */
+@Slf4j
+final class HistorySnapshotFiles {
+
+    private static final int MAGIC = 0x50485350;
+    private static final int VERSION = 1;
+    private static final String PREFIX = "history-snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final int RETAINED = 2;
+
+    interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    interface UserReader {
+        void read(DataInputStream in) throws IOException;
+    }
+
+    private HistorySnapshotFiles() {
+    }
+
+    /**
+     * users 명의 본문을 body 로 기록합니다. body 가 끝난 뒤에 파일을 공개하므로 본문을 다 쓴 다음 필요한 작업을 body 끝에 둘 수 있습니다.
+     */
+    static void write(Path directory, JournalPosition position, int users, Body body) {
+        Path target = directory.resolve(String.format("%s%010d-%010d%s", PREFIX, position.segment(), position.offset(), SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(position.segment());
+            out.writeInt(position.offset());
+            out.writeInt(users);
+            body.write(out);
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            prune(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * end 를 넘지 않는 읽을 수 있는 가장 최신 스냅숏의 사용자별 본문을 reader 로 전달하고 그 저널 위치를 반환합니다.
+     * 본문을 전달하기 전에 CRC 를 먼저 확인하므로, 손상된 파일은 아무것도 전달하지 않고 건너뜁니다.
+     */
+    static Optional<JournalPosition> loadLatest(Path directory, JournalPosition end, UserReader reader) {
+        List<Path> paths = list(directory);
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            Path path = paths.get(i);
+            try {
+                JournalPosition position = verify(path);
+                if (position.compareTo(end) > 0) {
+                    log.warn("point history snapshot {} is ahead of the journal end {}, ignoring it", path, end);
+                    continue;
+                }
+                read(path, reader);
+                return Optional.of(position);
+            } catch (IOException | IllegalStateException e) {
+                log.warn("point history snapshot {} is unreadable, trying an older one", path, e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 보관 중인 가장 오래된 스냅숏의 저널 위치입니다.
+     */
+    static Optional<JournalPosition> oldestPosition(Path directory) {
+        List<Path> paths = list(directory);
+        if (paths.isEmpty()) {
+            return Optional.empty();
+        }
+        String name = paths.get(0).getFileName().toString();
+        String[] parts = name.substring(PREFIX.length(), name.length() - SUFFIX.length()).split("-");
+        return Optional.of(new JournalPosition(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+    }
+
+    private static JournalPosition verify(Path path) throws IOException {
+        long size = Files.size(path);
+        if (size < 24) {
+            throw new IllegalStateException("not a point history snapshot: " + path);
+        }
+        try (InputStream file = Files.newInputStream(path)) {
+            CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, 1 << 16), new CRC32C());
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("not a point history snapshot: " + path);
+            }
+            JournalPosition position = new JournalPosition(in.readInt(), in.readInt());
+            in.skipNBytes(size - 16 - Integer.BYTES);
+            int expected = (int) checked.getChecksum().getValue();
+            if (in.readInt() != expected) {
+                throw new IllegalStateException("point history snapshot checksum mismatch: " + path);
+            }
+            return position;
+        }
+    }
+
+    private static void read(Path path, UserReader reader) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            in.skipNBytes(16);
+            int users = in.readInt();
+            for (int i = 0; i < users; i++) {
+                reader.read(in);
+            }
+        }
+    }
+
+    private static void prune(Path directory) throws IOException {
+        List<Path> paths = list(directory);
+        for (int i = 0; i < paths.size() - RETAINED; i++) {
+            Files.deleteIfExists(paths.get(i));
+        }
+    }
+
+    private static List<Path> list(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
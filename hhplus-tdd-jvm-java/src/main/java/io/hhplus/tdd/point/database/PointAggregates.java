@@ -0,0 +1,117 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.DailyPointSummary;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 사용자의 충전/사용 누적 합계와 일자별 합계를 내역이 추가될 때마다 갱신합니다.
+ * 조회 시 내역을 다시 합산하지 않으므로 누적 합계는 O(1), 일자별 합계는 O(log d + 반환 일수) 로 조회됩니다.
+ * 동기화는 호출하는 쪽에서 담당합니다.
+ */
+final class PointAggregates {
+
+    private final ZoneId zone;
+    private final Totals lifetime = new Totals();
+    private final TreeMap<Long, Totals> days = new TreeMap<>();
+
+    PointAggregates(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    void add(TransactionType type, long amount, long timeMillis) {
+        lifetime.add(type, amount);
+        long epochDay = Instant.ofEpochMilli(timeMillis).atZone(zone).toLocalDate().toEpochDay();
+        days.computeIfAbsent(epochDay, day -> new Totals()).add(type, amount);
+    }
+
+    /**
+     * 누적 합계와 since 이후(포함) 일자별 합계를 반환합니다.
+     */
+    PointSummary summarize(Long userId, LocalDate since) {
+        List<DailyPointSummary> daily = new ArrayList<>();
+        for (Map.Entry<Long, Totals> day : days.tailMap(since.toEpochDay(), true).entrySet()) {
+            Totals totals = day.getValue();
+            daily.add(new DailyPointSummary(LocalDate.ofEpochDay(day.getKey()),
+                    totals.charged, totals.used, totals.chargeCount, totals.useCount));
+        }
+        return new PointSummary(userId, lifetime.charged, lifetime.used, lifetime.chargeCount, lifetime.useCount, daily);
+    }
+
+    /**
+     * 히스토리 스냅숏에 합계를 기록합니다.
+     */
+    void writeTo(DataOutput out) throws IOException {
+        lifetime.writeTo(out);
+        out.writeInt(days.size());
+        for (Map.Entry<Long, Totals> day : days.entrySet()) {
+            out.writeLong(day.getKey());
+            day.getValue().writeTo(out);
+        }
+    }
+
+    /**
+     * 히스토리 스냅숏에 기록된 합계를 지금의 합계에 더합니다.
+     */
+    void addFrom(DataInput in) throws IOException {
+        lifetime.addFrom(in);
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            days.computeIfAbsent(in.readLong(), day -> new Totals()).addFrom(in);
+        }
+    }
+
+    private static final class Totals {
+        private long charged;
+        private long used;
+        private long chargeCount;
+        private long useCount;
+
+        // 보상 내역은 되돌린 충전/사용을 합계와 건수에서 뺍니다.
+        private void add(TransactionType type, long amount) {
+            switch (type) {
+                case CHARGE -> {
+                    charged += amount;
+                    chargeCount++;
+                }
+                case USE -> {
+                    used += amount;
+                    useCount++;
+                }
+                case CHARGE_CANCEL -> {
+                    charged -= amount;
+                    chargeCount--;
+                }
+                case USE_CANCEL -> {
+                    used -= amount;
+                    useCount--;
+                }
+            }
+        }
+
+        private void writeTo(DataOutput out) throws IOException {
+            out.writeLong(charged);
+            out.writeLong(used);
+            out.writeLong(chargeCount);
+            out.writeLong(useCount);
+        }
+
+        private void addFrom(DataInput in) throws IOException {
+            charged += in.readLong();
+            used += in.readLong();
+            chargeCount += in.readLong();
+            useCount += in.readLong();
+        }
+    }
+}
@@ -0,0 +1,532 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.journal.JournalPosition;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.support.PointExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PointHistoryTable 의 공개 API 를 감싸 사용자별 내역 색인을 유지합니다.
+ * 조회는 전체 테이블을 훑지 않고 해당 사용자의 색인만 사용하므로 O(페이지 크기) 로 처리됩니다.
+ * 내역 행은 한 곳에만 보관합니다. table 방식은 PointHistoryTable 이 보관하는 행 객체의 참조만 색인(TableHistoryRows)에 모으고,
+ * columnar 방식은 테이블을 거치지 않고 색인(HistoryColumns)의 원시 타입 열에 직접 보관하며 PointHistory 는 조회 시점에 만듭니다.
+ * 저널이 켜져 있으면 모든 내역을 저널에 남기고, 시작 후 백그라운드에서 가장 최신 히스토리 스냅숏을 읽은 뒤 그 이후의 저널만 재생해 색인을 복구합니다.
+ * 히스토리 스냅숏은 snapshot-interval 마다 색인(사용자별 합계, 콜드 경계, 핫 내역)을 저널 위치와 함께 기록하며,
+ * 기록한 뒤에는 잔액 스냅숏과 히스토리 스냅숏이 모두 지난 저널 세그먼트를 지우므로 복구 시간과 저널 크기가 전체 내역 양에 비례해 늘지 않습니다.
+ * 충전/사용은 복구를 기다리지 않으며, 내역 조회만 복구가 끝날 때까지 기다립니다.
+ * 내역을 추가할 때 같은 잠금 안에서 사용자별 누적/일자별 합계(PointAggregates)도 함께 갱신합니다.
+ * 테이블은 재시작하면 id 를 1부터 다시 발급하므로, 새 내역의 id 는 복구된 마지막 id 뒤로 밀어서 사용합니다.
+ * 콜드 계층이 켜져 있으면 hot-age 보다 오래된 내역을 주기적으로 디스크 세그먼트(ColdHistorySegments)로 옮기고 색인에서 지웁니다.
+ * columnar 방식은 색인이 유일한 보관처라 옮긴 내역이 힙에서 사라지므로 힙 사용량이 hot-age 안의 내역 양으로 제한됩니다.
+ * table 방식은 변경할 수 없는 원본 테이블이 행을 계속 보관하므로 색인의 참조만 지워집니다.
+ * 조회는 콜드 내역 뒤에 색인(핫) 내역을 이어 붙여 반환하므로 호출하는 쪽은 계층을 구분하지 않습니다.
+ * 원본 테이블은 id 발급(cursor++)과 ArrayList 추가가 동시 호출에 안전하지 않으므로 추가는 TableGuard 안에서 실행합니다.
+ */
+@Slf4j
+@Component
+public final class PointHistoryStore implements AutoCloseable {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SUMMARY_DAYS = 366;
+    private static final ZoneId SUMMARY_ZONE = ZoneId.systemDefault();
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    public enum Storage {
+        TABLE,
+        COLUMNAR
+    }
+
+    private final PointHistoryTable pointHistoryTable;
+    private final Storage storage;
+    private final TableGuard tableGuard;
+    private final PointJournal pointJournal;
+    private final ColdHistorySegments coldHistorySegments;
+    private final PointMetrics pointMetrics;
+    private final ConcurrentHashMap<Long, UserHistories> histories = new ConcurrentHashMap<>();
+    private final long idOffset;
+    // columnar 방식에서 발급할 다음 내역 id 입니다.
+    private final AtomicLong nextId;
+    private final CompletableFuture<Void> loaded;
+    private final ScheduledExecutorService compactor;
+    private final ScheduledExecutorService snapshotter;
+    // 저널 기록과 색인 추가 사이에 스냅숏 위치를 잡지 않도록, 추가는 읽기 잠금을, 위치를 잡을 때는 쓰기 잠금을 겁니다.
+    private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+
+    public PointHistoryStore(PointHistoryTable pointHistoryTable) {
+        this(pointHistoryTable, PointJournal.disabled());
+    }
+
+    public PointHistoryStore(PointHistoryTable pointHistoryTable, Storage storage) {
+        this(pointHistoryTable, PointJournal.disabled(), ColdHistorySegments.disabled(), PointMetrics.noop(), storage);
+    }
+
+    public PointHistoryStore(PointHistoryTable pointHistoryTable, PointJournal pointJournal) {
+        this(pointHistoryTable, pointJournal, ColdHistorySegments.disabled());
+    }
+
+    public PointHistoryStore(PointHistoryTable pointHistoryTable, PointJournal pointJournal, ColdHistorySegments coldHistorySegments) {
+        this(pointHistoryTable, pointJournal, coldHistorySegments, PointMetrics.noop());
+    }
+
+    public PointHistoryStore(PointHistoryTable pointHistoryTable, PointJournal pointJournal, ColdHistorySegments coldHistorySegments, PointMetrics pointMetrics) {
+        this(pointHistoryTable, pointJournal, coldHistorySegments, pointMetrics, Storage.TABLE);
+    }
+
+    public PointHistoryStore(PointHistoryTable pointHistoryTable, PointJournal pointJournal, ColdHistorySegments coldHistorySegments, PointMetrics pointMetrics, Storage storage) {
+        this(pointHistoryTable, pointJournal, coldHistorySegments, pointMetrics, storage, Duration.ZERO);
+    }
+
+    @Autowired
+    public PointHistoryStore(
+            PointHistoryTable pointHistoryTable,
+            PointJournal pointJournal,
+            ColdHistorySegments coldHistorySegments,
+            PointMetrics pointMetrics,
+            @Value("${point.history.storage:table}") Storage storage,
+            @Value("${point.journal.snapshot-interval:1m}") Duration snapshotInterval
+    ) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.storage = storage;
+        this.tableGuard = TableGuard.of(pointHistoryTable);
+        this.pointJournal = pointJournal;
+        this.coldHistorySegments = coldHistorySegments;
+        this.pointMetrics = pointMetrics;
+        this.idOffset = pointJournal.lastHistoryId();
+        this.nextId = new AtomicLong(idOffset + 1);
+        if (coldHistorySegments.isEnabled() && storage == Storage.TABLE) {
+            log.warn("point.history.storage=table keeps every row in PointHistoryTable, so tiering does not bound the heap; use columnar");
+        }
+        if (coldHistorySegments.isEnabled()) {
+            if (pointJournal.isEnabled()) {
+                coldHistorySegments.forEachBlock((userId, lastId) -> histories.computeIfAbsent(userId, this::newUserHistories).markCold(lastId));
+            } else {
+                coldHistorySegments.clear();
+            }
+        }
+        this.loaded = pointJournal.isEnabled() ? load(pointJournal.position()) : CompletableFuture.completedFuture(null);
+        if (coldHistorySegments.isEnabled()) {
+            long intervalMillis = coldHistorySegments.interval().toMillis();
+            this.compactor = PointExecutors.newSingleThreadScheduledExecutor("point-history-compact");
+            this.compactor.scheduleWithFixedDelay(this::compactQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.compactor = null;
+        }
+        if (pointJournal.isEnabled() && !snapshotInterval.isZero()) {
+            long intervalMillis = snapshotInterval.toMillis();
+            this.snapshotter = PointExecutors.newSingleThreadScheduledExecutor("point-history-snapshot");
+            this.snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.snapshotter = null;
+        }
+    }
+
+    public PointHistory insert(Long userId, Long amount, TransactionType type, Long updateMillis) throws InterruptedException {
+        PointHistory row;
+        PointHistory history;
+        if (storage == Storage.COLUMNAR) {
+            row = new PointHistory(nextId.getAndIncrement(), userId, type, amount, updateMillis);
+            history = row;
+        } else {
+            row = tableGuard.write(() -> pointHistoryTable.insert(userId, amount, type, updateMillis));
+            history = idOffset == 0 ? row
+                    : new PointHistory(row.id() + idOffset, row.userId(), row.type(), row.amount(), row.timeMillis());
+        }
+        long size;
+        checkpointLock.readLock().lock();
+        try {
+            pointJournal.append(history);
+            size = histories.computeIfAbsent(userId, this::newUserHistories).add(row, history);
+        } finally {
+            checkpointLock.readLock().unlock();
+        }
+        pointMetrics.recordHistorySize(size);
+        return history;
+    }
+
+    /**
+     * 내역이 있는 사용자 수입니다.
+     */
+    public int users() {
+        return histories.size();
+    }
+
+    public List<PointHistory> selectAllByUserId(Long userId) {
+        loaded.join();
+        UserHistories userHistories = histories.get(userId);
+        if (userHistories == null) {
+            return new ArrayList<>();
+        }
+        HotView hot = userHistories.snapshot();
+        return withCold(userId, hot, 0L, Long.MIN_VALUE, Long.MAX_VALUE, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * cursor 로 전달된 내역 id 이후의 내역을 id 오름차순으로 최대 limit 건 조회합니다.
+     */
+    public PointHistoryPage selectPageByUserId(Long userId, Long cursor, int limit) {
+        return selectPageByUserId(userId, cursor, limit, Long.MIN_VALUE, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * cursor 이후의 내역 중 시각이 from 이상 to 미만이고 유형이 type 인(null 이면 전체) 내역을 id 오름차순으로 최대 limit 건 조회합니다.
+     */
+    public PointHistoryPage selectPageByUserId(Long userId, Long cursor, int limit, long from, long to, TransactionType type) {
+        loaded.join();
+        UserHistories userHistories = histories.get(userId);
+        if (userHistories == null) {
+            return new PointHistoryPage(List.of(), null);
+        }
+        long after = cursor == null ? 0L : cursor;
+        int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽습니다.
+        List<PointHistory> candidates = withCold(userId, userHistories.page(after, from, to, type, size + 1), after, from, to, type, size + 1);
+        if (candidates.size() <= size) {
+            return new PointHistoryPage(List.copyOf(candidates), null);
+        }
+        List<PointHistory> page = List.copyOf(candidates.subList(0, size));
+        return new PointHistoryPage(page, page.get(size - 1).id());
+    }
+
+    /**
+     * 시각이 cutoffMillis 보다 이른 내역을 새 콜드 세그먼트로 옮기고 색인에서 지웁니다.
+     *
+     * @return 옮긴 내역 수
+     */
+    public long compact(long cutoffMillis) {
+        if (!coldHistorySegments.isEnabled()) {
+            return 0L;
+        }
+        loaded.join();
+        Long[] userIds = histories.keySet().toArray(Long[]::new);
+        Arrays.sort(userIds);
+        List<ColdPrefix> moved = new ArrayList<>();
+        try (ColdHistorySegment.Writer writer = coldHistorySegments.newWriter()) {
+            for (Long userId : userIds) {
+                ColdPrefix prefix = histories.get(userId).coldPrefix(cutoffMillis);
+                if (prefix == null) {
+                    continue;
+                }
+                writer.beginUser(userId);
+                for (int i = 0; i < prefix.ids().length; i++) {
+                    writer.add(prefix.ids()[i], prefix.types()[i], prefix.amounts()[i], prefix.times()[i]);
+                }
+                moved.add(prefix);
+            }
+            if (moved.isEmpty()) {
+                return 0L;
+            }
+            // 세그먼트를 공개한 뒤에 색인에서 지워야 조회 중인 내역이 사라지지 않습니다.
+            coldHistorySegments.publish(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long count = 0L;
+        for (ColdPrefix prefix : moved) {
+            histories.get(prefix.userId()).dropColdPrefix(prefix);
+            count += prefix.ids().length;
+        }
+        return count;
+    }
+
+    /**
+     * 색인을 히스토리 스냅숏으로 기록하고, 잔액 스냅숏과 히스토리 스냅숏이 모두 지난 저널 세그먼트를 지웁니다.
+     * 스냅숏에는 잡은 위치 이후에 추가된 내역도 섞일 수 있으므로, 사용자마다 포함한 마지막 내역 id 를 함께 남겨 재생 시 건너뜁니다.
+     *
+     * @return 스냅숏이 가리키는 저널 위치
+     */
+    public JournalPosition snapshot() {
+        if (!pointJournal.isEnabled()) {
+            return JournalPosition.START;
+        }
+        loaded.join();
+        JournalPosition position;
+        checkpointLock.writeLock().lock();
+        try {
+            position = pointJournal.position();
+        } finally {
+            checkpointLock.writeLock().unlock();
+        }
+        long startedAt = System.nanoTime();
+        Long[] userIds = histories.keySet().toArray(Long[]::new);
+        HistorySnapshotFiles.write(pointJournal.directory(), position, userIds.length, out -> {
+            for (Long userId : userIds) {
+                histories.get(userId).writeTo(out);
+            }
+            // 스냅숏에 담긴 내역이 모두 디스크에 반영된 뒤에 파일을 공개합니다.
+            pointJournal.sync();
+        });
+        HistorySnapshotFiles.oldestPosition(pointJournal.directory()).ifPresent(pointJournal::truncateBefore);
+        log.info("point history snapshot of {} users written at {} in {} ms",
+                userIds.length, position, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return position;
+    }
+
+    @Override
+    public void close() {
+        if (compactor != null) {
+            compactor.shutdown();
+        }
+        if (snapshotter != null) {
+            snapshotter.shutdown();
+            snapshotQuietly();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("point history snapshot failed", e);
+        }
+    }
+
+    private void compactQuietly() {
+        try {
+            long moved = compact(System.currentTimeMillis() - coldHistorySegments.hotAge().toMillis());
+            if (moved > 0) {
+                log.info("moved {} point histories to cold segments", moved);
+            }
+        } catch (RuntimeException e) {
+            log.warn("point history compaction failed", e);
+        }
+    }
+
+    /**
+     * 콜드 계층에서 hot.coldUntilId() 이하의 내역을 읽어 핫 내역 앞에 붙입니다. 최대 limit 건까지 반환합니다.
+     */
+    private List<PointHistory> withCold(Long userId, HotView hot, long afterId, long fromTime, long toTime, TransactionType type, int limit) {
+        if (hot.coldUntilId() <= afterId) {
+            return hot.histories();
+        }
+        List<PointHistory> merged = new ArrayList<>();
+        coldHistorySegments.scan(userId, afterId, hot.coldUntilId(), fromTime, toTime, (id, historyType, amount, timeMillis) -> {
+            if (type == null || historyType == type) {
+                merged.add(new PointHistory(id, userId, historyType, amount, timeMillis));
+            }
+            return merged.size() < limit;
+        });
+        for (PointHistory history : hot.histories()) {
+            if (merged.size() >= limit) {
+                break;
+            }
+            merged.add(history);
+        }
+        return merged;
+    }
+
+    private CompletableFuture<Void> load(JournalPosition end) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Thread.ofPlatform().name("point-history-load").daemon().start(() -> {
+            try {
+                long startedAt = System.nanoTime();
+                JournalPosition from = HistorySnapshotFiles.loadLatest(pointJournal.directory(), end,
+                        in -> histories.computeIfAbsent(in.readLong(), this::newUserHistories).restore(in)).orElse(JournalPosition.START);
+                long[] replayed = {0L};
+                pointJournal.replay(from, end, entry -> {
+                    histories.computeIfAbsent(entry.userId(), this::newUserHistories).recover(entry.toHistory());
+                    replayed[0]++;
+                });
+                future.complete(null);
+                log.info("point history index recovered {} users from snapshot {} and {} journal entries in {} ms",
+                        histories.size(), from, replayed[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 시각이 from 이상 to 미만인 내역을 조회합니다. type 이 null 이면 모든 유형을 조회합니다.
+     */
+    public List<PointHistory> selectByUserIdAndTime(Long userId, long from, long to, TransactionType type) {
+        loaded.join();
+        UserHistories userHistories = histories.get(userId);
+        if (userHistories == null) {
+            return new ArrayList<>();
+        }
+        return withCold(userId, userHistories.selectByTime(from, to, type), 0L, from, to, type, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 누적 합계와 오늘을 포함한 최근 days 일의 일자별 합계를 조회합니다.
+     */
+    public PointSummary summarize(Long userId, int days) {
+        loaded.join();
+        UserHistories userHistories = histories.get(userId);
+        if (userHistories == null) {
+            return PointSummary.empty(userId);
+        }
+        int window = Math.max(1, Math.min(days, MAX_SUMMARY_DAYS));
+        return userHistories.summarize(LocalDate.now(SUMMARY_ZONE).minusDays(window - 1L));
+    }
+
+    private UserHistories newUserHistories(Long userId) {
+        return new UserHistories(userId, storage == Storage.COLUMNAR ? new HistoryColumns(userId) : new TableHistoryRows(userId, idOffset));
+    }
+
+    private static final class UserHistories {
+        private final long userId;
+        private HistoryRows rows;
+        private final PointAggregates aggregates = new PointAggregates(SUMMARY_ZONE);
+        // 이 id 이하의 내역은 콜드 세그먼트에 있습니다. (0 이면 없음)
+        private long coldUntilId;
+        // 콜드 세그먼트로 옮긴 내역을 포함한 전체 내역 수입니다.
+        private long size;
+        // 히스토리 스냅숏에서 복구한 마지막 내역 id 입니다. 스냅숏 이후 저널을 재생할 때 이 id 이하는 이미 반영되어 있습니다.
+        private long restoredUntilId;
+
+        private UserHistories(long userId, HistoryRows rows) {
+            this.userId = userId;
+            this.rows = rows;
+        }
+
+        /**
+         * row 는 저장 방식이 보관한 행, history 는 id 를 옮긴 최종 내역입니다.
+         */
+        private synchronized long add(PointHistory row, PointHistory history) {
+            rows.append(row);
+            aggregates.add(history.type(), history.amount(), history.timeMillis());
+            return ++size;
+        }
+
+        /**
+         * 저널 재생 시 이미 콜드 세그먼트에 있는 내역은 합계에만 반영합니다.
+         */
+        private synchronized void recover(PointHistory history) {
+            if (history.id() <= restoredUntilId) {
+                return;
+            }
+            if (history.id() <= coldUntilId) {
+                aggregates.add(history.type(), history.amount(), history.timeMillis());
+                size++;
+            } else {
+                rows.recover(history);
+                aggregates.add(history.type(), history.amount(), history.timeMillis());
+                size++;
+            }
+        }
+
+        /**
+         * 히스토리 스냅숏에 전체 내역 수, 콜드 경계, 포함한 마지막 내역 id, 합계, 핫 내역 순서로 기록합니다.
+         */
+        private synchronized void writeTo(DataOutputStream out) throws IOException {
+            int count = rows.size();
+            out.writeLong(userId);
+            out.writeLong(size);
+            out.writeLong(coldUntilId);
+            out.writeLong(count == 0 ? coldUntilId : Math.max(coldUntilId, rows.idAt(count - 1)));
+            aggregates.writeTo(out);
+            out.writeInt(count);
+            for (int i = 0; i < count; i++) {
+                out.writeLong(rows.idAt(i));
+                out.writeByte(rows.typeAt(i).ordinal());
+                out.writeLong(rows.amountAt(i));
+                out.writeLong(rows.timeAt(i));
+            }
+        }
+
+        /**
+         * writeTo 로 기록한 내용(사용자 id 다음부터)을 읽어 반영합니다. 이미 추가된 새 내역이 있으면 그 앞에 놓이며,
+         * 콜드 세그먼트로 이미 옮겨진 내역은 합계에만 남습니다.
+         */
+        private synchronized void restore(DataInputStream in) throws IOException {
+            size += in.readLong();
+            coldUntilId = Math.max(coldUntilId, in.readLong());
+            restoredUntilId = in.readLong();
+            aggregates.addFrom(in);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                TransactionType type = TYPES[in.readByte()];
+                long amount = in.readLong();
+                long timeMillis = in.readLong();
+                if (id > coldUntilId) {
+                    rows.recover(new PointHistory(id, userId, type, amount, timeMillis));
+                }
+            }
+        }
+
+        private synchronized void markCold(long lastId) {
+            coldUntilId = Math.max(coldUntilId, lastId);
+        }
+
+        private synchronized PointSummary summarize(LocalDate since) {
+            return aggregates.summarize(userId, since);
+        }
+
+        private synchronized HotView snapshot() {
+            return new HotView(rows.slice(0, rows.size()), coldUntilId);
+        }
+
+        private synchronized HotView selectByTime(long from, long to, TransactionType type) {
+            return new HotView(rows.selectByTime(from, to, type), coldUntilId);
+        }
+
+        private synchronized HotView page(long cursor, long from, long to, TransactionType type, int limit) {
+            return new HotView(rows.page(cursor, from, to, type, limit), coldUntilId);
+        }
+
+        private synchronized ColdPrefix coldPrefix(long cutoffMillis) {
+            int count = rows.countBefore(cutoffMillis);
+            if (count == 0) {
+                return null;
+            }
+            long[] ids = new long[count];
+            TransactionType[] types = new TransactionType[count];
+            long[] amounts = new long[count];
+            long[] times = new long[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = rows.idAt(i);
+                types[i] = rows.typeAt(i);
+                amounts[i] = rows.amountAt(i);
+                times[i] = rows.timeAt(i);
+            }
+            return new ColdPrefix(userId, ids, types, amounts, times);
+        }
+
+        private synchronized void dropColdPrefix(ColdPrefix prefix) {
+            rows = rows.tail(prefix.ids().length);
+            coldUntilId = prefix.ids()[prefix.ids().length - 1];
+        }
+    }
+
+    /**
+     * 한 사용자의 색인(핫) 내역과, 그 시점에 콜드 세그먼트로 옮겨져 있던 마지막 내역 id 입니다.
+     */
+    private record HotView(List<PointHistory> histories, long coldUntilId) {
+    }
+
+    /**
+     * 콜드 세그먼트로 옮길 앞부분 내역입니다.
+     */
+    private record ColdPrefix(long userId, long[] ids, TransactionType[] types, long[] amounts, long[] times) {
+    }
+}
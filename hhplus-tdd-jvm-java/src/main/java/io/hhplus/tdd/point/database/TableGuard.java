@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.support.WaitDeadline;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 원본 UserPointTable/PointHistoryTable 호출을 테이블 인스턴스 단위로 직렬화합니다.
+ * 두 테이블은 잠금 없는 HashMap/ArrayList 와 Long cursor 를 사용하므로, 서로 다른 사용자의 요청이라도 동시에 쓰면
+ * 잔액이 유실되거나 내역 id 가 중복/누락되고 HashMap 이 깨질 수 있습니다.
+ * 쓰기는 다른 모든 호출과 배타적으로, 조회는 쓰기와만 배타적으로 실행합니다.
+ * 테이블의 지연(throttle)은 같은 메서드 안에 있어 잠금 구간에서 뺄 수 없습니다.
+ * 같은 테이블을 여러 구성 요소(UserPointStore, HedgedUserPointReader)가 호출하므로 잠금은 테이블 인스턴스마다 하나만 만들고,
+ * 래퍼(DelegatingTable)는 delegate 를 기준으로 하며, 동시 호출에 안전한 구현(ConcurrentTable)은 잠그지 않습니다.
+ * 테이블 단위 잠금은 지연 동안 모든 사용자를 직렬화하므로, 기본 구성은 원본 대신 ConcurrentUserPointTable/ConcurrentPointHistoryTable 을
+ * 주입해 이 잠금을 거치지 않습니다. 잠금은 원본 테이블을 직접 넘긴 경우에만 사용됩니다.
+ * 사용자 락(UserLockManager) 안에서 호출되면 사용자 락과 같은 마감 시각(WaitDeadline)까지만 기다리고,
+ * 그 안에 잠금을 얻지 못하면 USER_LOCK_TIMEOUT(429) 으로 거절합니다. 마감 시각이 없으면 제한 없이 기다립니다.
+ */
+final class TableGuard {
+
+    private static final TableGuard NONE = new TableGuard(null);
+    private static final Map<Object, TableGuard> GUARDS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ReadWriteLock lock;
+
+    private TableGuard(ReadWriteLock lock) {
+        this.lock = lock;
+    }
+
+    static TableGuard of(Object table) {
+        while (table instanceof DelegatingTable delegatingTable) {
+            table = delegatingTable.delegate();
+        }
+        if (table instanceof ConcurrentTable) {
+            return NONE;
+        }
+        return GUARDS.computeIfAbsent(table, it -> new TableGuard(new ReentrantReadWriteLock()));
+    }
+
+    <T> T read(TableCall<T> call) throws InterruptedException {
+        if (lock == null) {
+            return call.execute();
+        }
+        Lock readLock = lock.readLock();
+        lock(readLock);
+        try {
+            return call.execute();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    <T> T write(TableCall<T> call) throws InterruptedException {
+        if (lock == null) {
+            return call.execute();
+        }
+        Lock writeLock = lock.writeLock();
+        lock(writeLock);
+        try {
+            return call.execute();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void lock(Lock lock) throws InterruptedException {
+        long remainingNanos = WaitDeadline.remainingNanos();
+        if (remainingNanos < 0) {
+            lock.lockInterruptibly();
+        } else if (!lock.tryLock(remainingNanos, TimeUnit.NANOSECONDS)) {
+            throw new PointException(ErrorCode.USER_LOCK_TIMEOUT);
+        }
+    }
+
+    @FunctionalInterface
+    interface TableCall<T> {
+        T execute() throws InterruptedException;
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * table 저장 방식에서 PointHistoryTable 이 이미 보관하는 행을 복사하지 않고, insert 가 돌려준 행 객체의 참조만 사용자별로 모아 둡니다.
+ * 재시작 후에는 테이블이 id 를 1부터 다시 발급하므로 테이블 행의 id 는 읽을 때 idOffset 을 더합니다.
+ * 저널로 복구한 행은 테이블에 없으므로 이 색인이 유일한 보관처이며, id 가 모두 idOffset 이하라서 항상 테이블 행보다 앞에 놓입니다.
+ */
+final class TableHistoryRows extends HistoryRows {
+
+    private final long idOffset;
+    private final List<PointHistory> rows;
+    // 앞에서부터 recovered 개의 행은 저널로 복구한 행으로, id 가 이미 최종 값입니다.
+    private int recovered;
+
+    TableHistoryRows(long userId, long idOffset) {
+        this(userId, idOffset, new ArrayList<>(), 0);
+    }
+
+    private TableHistoryRows(long userId, long idOffset, List<PointHistory> rows, int recovered) {
+        super(userId);
+        this.idOffset = idOffset;
+        this.rows = rows;
+        this.recovered = recovered;
+    }
+
+    @Override
+    int size() {
+        return rows.size();
+    }
+
+    @Override
+    long idAt(int index) {
+        long id = rows.get(index).id();
+        return index < recovered ? id : id + idOffset;
+    }
+
+    @Override
+    long amountAt(int index) {
+        return rows.get(index).amount();
+    }
+
+    @Override
+    long timeAt(int index) {
+        return rows.get(index).timeMillis();
+    }
+
+    @Override
+    TransactionType typeAt(int index) {
+        return rows.get(index).type();
+    }
+
+    /**
+     * id 를 옮길 필요가 없으면 테이블이 보관한 행 객체를 그대로 돌려줍니다.
+     */
+    @Override
+    PointHistory get(int index) {
+        return index < recovered || idOffset == 0 ? rows.get(index) : super.get(index);
+    }
+
+    /**
+     * 같은 사용자의 내역이 id 발급 순서와 다르게 도착할 수 있으므로 뒤에서부터 자리를 찾습니다.
+     */
+    @Override
+    void append(PointHistory row) {
+        long id = row.id() + idOffset;
+        int index = rows.size();
+        while (index > recovered && idAt(index - 1) > id) {
+            index--;
+        }
+        rows.add(index, row);
+        checkTimeOrder(index);
+    }
+
+    @Override
+    void recover(PointHistory history) {
+        int index = recovered;
+        while (index > 0 && rows.get(index - 1).id() > history.id()) {
+            index--;
+        }
+        rows.add(index, history);
+        recovered++;
+        checkTimeOrder(index);
+    }
+
+    @Override
+    TableHistoryRows tail(int from) {
+        TableHistoryRows tail = new TableHistoryRows(userId, idOffset, new ArrayList<>(rows.subList(from, rows.size())), Math.max(0, recovered - from));
+        tail.inheritTimeOrder(this);
+        return tail;
+    }
+}
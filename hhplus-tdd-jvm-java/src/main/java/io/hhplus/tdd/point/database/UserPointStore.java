@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.cache.CacheStats;
+import io.hhplus.tdd.point.cache.LruCache;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.journal.PointJournal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserPointTable 앞에 두는 read-through / write-through 캐시입니다.
+ * 잔액은 PointService 를 통해서만 변경되므로, 저장할 때 캐시도 함께 갱신하면 조회 시 테이블을 다시 읽지 않아도 됩니다.
+ * 저널에서 복구한 잔액은 테이블에 다시 쓰지 않고, 해당 사용자의 첫 저장 전까지 테이블 대신 사용합니다.
+ * 원본 테이블은 동시 호출에 안전하지 않으므로 저장은 TableGuard 안에서 실행합니다. (조회는 HedgedUserPointReader 가 같은 잠금을 사용)
+ */
+@Component
+public class UserPointStore {
+
+    private static final int SEQUENCE_STRIPES = 64;
+
+    private final UserPointTable userPointTable;
+    private final TableGuard tableGuard;
+    private final HedgedUserPointReader hedgedUserPointReader;
+    private final LruCache<Long, UserPoint> cache;
+    private final ConcurrentHashMap<Long, UserPoint> recovered;
+    // 조회 도중 같은 사용자(스트라이프)에 저장이 일어났는지 판별해, 느린 조회 결과가 최신 잔액을 덮어쓰지 않도록 합니다.
+    private final long[] writeSequences = new long[SEQUENCE_STRIPES];
+
+    public UserPointStore(UserPointTable userPointTable) {
+        this(userPointTable, new HedgedUserPointReader(userPointTable), 10_000, Duration.ofMinutes(1));
+    }
+
+    public UserPointStore(UserPointTable userPointTable, HedgedUserPointReader hedgedUserPointReader, int maximumSize, Duration ttl) {
+        this(userPointTable, hedgedUserPointReader, PointJournal.disabled(), maximumSize, ttl);
+    }
+
+    @Autowired
+    public UserPointStore(
+            UserPointTable userPointTable,
+            HedgedUserPointReader hedgedUserPointReader,
+            PointJournal pointJournal,
+            @Value("${point.cache.maximum-size:10000}") int maximumSize,
+            @Value("${point.cache.ttl:1m}") Duration ttl
+    ) {
+        this.userPointTable = userPointTable;
+        this.tableGuard = TableGuard.of(userPointTable);
+        this.hedgedUserPointReader = hedgedUserPointReader;
+        this.cache = new LruCache<>(maximumSize, ttl);
+        this.recovered = new ConcurrentHashMap<>(pointJournal.recoveredBalances());
+    }
+
+    public UserPoint selectById(Long userId) throws InterruptedException {
+        UserPoint cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        UserPoint recoveredPoint = recovered.get(userId);
+        if (recoveredPoint != null) {
+            return recoveredPoint;
+        }
+
+        long sequence = writeSequence(userId);
+        UserPoint userPoint = hedgedUserPointReader.read(userId);
+        synchronized (this) {
+            if (writeSequences[stripe(userId)] == sequence) {
+                cache.put(userId, userPoint);
+            }
+        }
+        return userPoint;
+    }
+
+    public UserPoint insertOrUpdate(Long userId, Long point) throws InterruptedException {
+        UserPoint userPoint = tableGuard.write(() -> userPointTable.insertOrUpdate(userId, point));
+        recovered.remove(userId);
+        synchronized (this) {
+            writeSequences[stripe(userId)]++;
+            cache.put(userId, userPoint);
+        }
+        return userPoint;
+    }
+
+    public CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    private synchronized long writeSequence(Long userId) {
+        return writeSequences[stripe(userId)];
+    }
+
+    private static int stripe(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), SEQUENCE_STRIPES);
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+/**
+ * 버전이 붙은 잔액입니다. 버전이 홀수이면 누군가 이 잔액을 기준으로 쓰는 중입니다.
+ */
+public record VersionedUserPoint(
+        UserPoint userPoint,
+        long version
+) {
+
+    public boolean writing() {
+        return (version & 1L) == 1L;
+    }
+}
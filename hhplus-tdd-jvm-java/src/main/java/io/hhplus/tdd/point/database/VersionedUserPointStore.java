@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UserPointStore 앞에서 사용자별 잔액에 버전을 붙여 compare-and-set 을 제공합니다.
+ * UserPointTable 에는 compare-and-set 이 없으므로 seqlock 처럼 버전을 홀수로 올려 쓰기를 선점하고,
+ * 테이블 저장이 끝나면 짝수로 올려 새 잔액을 공개합니다. 읽기는 락 없이 버전과 함께 수행됩니다.
+ * 호출하는 쪽은 acquire 와 release 사이에서 읽고 씁니다. 락 레지스트리(UserLockManager)처럼 처리 중인 요청이 없고
+ * 쓰는 중도 아닌 사용자의 항목은 release 할 때 제거하므로, 항목 수는 처리 중인 사용자 수로 제한됩니다.
+ * 제거된 뒤 다시 읽으면 테이블의 잔액(최신)을 새 항목으로 올리고, 선점은 항목 인스턴스를 비교하므로 이전 항목으로는 선점할 수 없습니다.
+ */
+@Component
+public class VersionedUserPointStore {
+
+    private final UserPointStore userPointStore;
+    private final ConcurrentHashMap<Long, Slot> versions = new ConcurrentHashMap<>();
+
+    public VersionedUserPointStore(UserPointStore userPointStore) {
+        this.userPointStore = userPointStore;
+    }
+
+    /**
+     * 사용자의 항목이 release 전까지 제거되지 않도록 붙잡습니다.
+     */
+    public void acquire(Long userId) {
+        versions.compute(userId, (id, slot) -> {
+            Slot acquired = slot == null ? new Slot() : slot;
+            acquired.holders++;
+            return acquired;
+        });
+    }
+
+    /**
+     * acquire 를 해제합니다. 붙잡은 요청이 더 없고 쓰는 중이 아니면 항목을 제거합니다.
+     */
+    public void release(Long userId) {
+        versions.computeIfPresent(userId, (id, slot) -> {
+            slot.holders = Math.max(0, slot.holders - 1);
+            return slot.idle() ? null : slot;
+        });
+    }
+
+    public VersionedUserPoint read(Long userId) throws InterruptedException {
+        Slot slot = versions.get(userId);
+        VersionedUserPoint current = slot == null ? null : slot.current;
+        if (current != null) {
+            return current;
+        }
+        // 항목이 없거나 비어 있으면 선점한 쓰기가 없으므로 테이블의 잔액이 최신입니다.
+        VersionedUserPoint loaded = new VersionedUserPoint(userPointStore.selectById(userId), 0L);
+        return versions.compute(userId, (id, existing) -> {
+            Slot loadedSlot = existing == null ? new Slot() : existing;
+            if (loadedSlot.current == null) {
+                loadedSlot.current = loaded;
+            }
+            return loadedSlot;
+        }).current;
+    }
+
+    /**
+     * expected 를 읽은 뒤로 버전이 바뀌지 않았으면 쓰기를 선점합니다.
+     *
+     * @return 선점한 항목, 다른 쓰기가 끼어들었거나 쓰는 중이면 null
+     */
+    public VersionedUserPoint tryClaim(VersionedUserPoint expected) {
+        if (expected.writing()) {
+            return null;
+        }
+        VersionedUserPoint claimed = new VersionedUserPoint(expected.userPoint(), expected.version() + 1);
+        Slot slot = versions.computeIfPresent(expected.userPoint().id(), (id, current) -> {
+            if (current.current == expected) {
+                current.current = claimed;
+            }
+            return current;
+        });
+        // 선점한 항목은 선점한 쪽만 바꾸므로 compute 이후에 비교해도 됩니다.
+        return slot != null && slot.current == claimed ? claimed : null;
+    }
+
+    /**
+     * 선점한 쓰기를 마치고 저장된 잔액을 다음 버전으로 공개합니다.
+     */
+    public void publish(VersionedUserPoint claimed, UserPoint saved) {
+        replace(claimed, new VersionedUserPoint(saved, claimed.version() + 1));
+    }
+
+    /**
+     * 쓰기에 실패하면 선점하기 전 잔액을 다음 버전으로 되돌립니다.
+     */
+    public void rollback(VersionedUserPoint claimed) {
+        replace(claimed, new VersionedUserPoint(claimed.userPoint(), claimed.version() + 1));
+    }
+
+    /**
+     * 항목을 보관 중인 사용자 수입니다.
+     */
+    public int trackedUsers() {
+        return versions.size();
+    }
+
+    private void replace(VersionedUserPoint claimed, VersionedUserPoint next) {
+        versions.computeIfPresent(claimed.userPoint().id(), (id, slot) -> {
+            slot.current = next;
+            return slot.idle() ? null : slot;
+        });
+    }
+
+    private static final class Slot {
+        private volatile VersionedUserPoint current;
+        // compute 블록 안에서만 변경됩니다.
+        private int holders;
+
+        private boolean idle() {
+            return holders == 0 && (current == null || !current.writing());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.domain;
+
+import java.time.LocalDate;
+
+/**
+ * 하루 동안의 충전/사용 합계와 건수입니다.
+ */
+public record DailyPointSummary(
+        LocalDate date,
+        long charged,
+        long used,
+        long chargeCount,
+        long useCount
+) {
+}
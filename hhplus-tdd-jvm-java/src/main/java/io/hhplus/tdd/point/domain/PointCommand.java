@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.domain;
+
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.dto.PointDto;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+
+public record PointCommand(
+        Long userId,
+        TransactionType type,
+        Long amount
+) {
+
+    public static PointCommand charge(PointDto pointDto) {
+        return new PointCommand(pointDto.userId(), TransactionType.CHARGE, pointDto.amount());
+    }
+
+    public static PointCommand use(PointDto pointDto) {
+        return new PointCommand(pointDto.userId(), TransactionType.USE, pointDto.amount());
+    }
+
+    public UserPoint applyTo(UserPoint userPoint) throws Exception {
+        return switch (type) {
+            case CHARGE -> userPoint.charge(amount);
+            case USE -> userPoint.use(amount);
+            case CHARGE_CANCEL, USE_CANCEL -> throw new PointException(ErrorCode.INCORRECT_TRANSACTION_TYPE);
+        };
+    }
+
+    /**
+     * 명령 객체 없이 잔액에 충전/사용을 적용합니다.
+     */
+    public static long applyTo(TransactionType type, long point, long amount) {
+        return switch (type) {
+            case CHARGE -> UserPoint.charge(point, amount);
+            case USE -> UserPoint.use(point, amount);
+            case CHARGE_CANCEL, USE_CANCEL -> throw new PointException(ErrorCode.INCORRECT_TRANSACTION_TYPE);
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+
+/**
+ * 커서 기반으로 조회한 포인트 내역의 한 페이지입니다.
+ * 다음 페이지가 없으면 nextCursor 는 null 입니다.
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+}
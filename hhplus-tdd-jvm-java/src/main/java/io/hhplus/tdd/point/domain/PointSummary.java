@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.domain;
+
+import java.util.List;
+
+/**
+ * 사용자의 누적 충전/사용 합계와 건수, 그리고 최근 일자별 합계입니다.
+ * 일자별 합계는 내역이 있는 날만 날짜 오름차순으로 담깁니다.
+ */
+public record PointSummary(
+        Long userId,
+        long totalCharged,
+        long totalUsed,
+        long chargeCount,
+        long useCount,
+        List<DailyPointSummary> days
+) {
+
+    public static PointSummary empty(Long userId) {
+        return new PointSummary(userId, 0L, 0L, 0L, 0L, List.of());
+    }
+}
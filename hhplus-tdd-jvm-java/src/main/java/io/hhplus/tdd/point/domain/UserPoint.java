@@ -20,18 +20,32 @@ public record UserPoint(
     }
 
     public UserPoint charge(Long amount) {
+        return new UserPoint(id, charge(point, amount), System.currentTimeMillis());
+    }
+
+    public UserPoint use(Long amount) throws Exception {
+        return new UserPoint(id, use(point, amount), System.currentTimeMillis());
+    }
+
+    /**
+     * 객체를 만들지 않고 충전 후 잔액만 계산합니다.
+     */
+    public static long charge(long point, long amount) {
         if(amount < 0){
             throw new RuntimeException(ErrorCode.INCORRECT_AMOUNT.getMessage());
         }
 
-        return new UserPoint(id, point + amount, System.currentTimeMillis());
+        return point + amount;
     }
 
-    public UserPoint use(Long amount) throws Exception {
+    /**
+     * 객체를 만들지 않고 사용 후 잔액만 계산합니다.
+     */
+    public static long use(long point, long amount) {
         if(point - amount < 0){
             throw new RuntimeException(ErrorCode.INCORRECT_AMOUNT.getMessage(point));
         }
 
-        return new UserPoint(id, point - amount, System.currentTimeMillis());
+        return point - amount;
     }
 }
@@ -3,4 +3,7 @@ package io.hhplus.tdd.point.domain.constant;
 public enum TransactionType {
     CHARGE,
     USE,
+    // 잔액 저장에 실패한 충전/사용의 내역을 되돌리는 보상 내역입니다. 명령으로는 요청할 수 없습니다.
+    CHARGE_CANCEL,
+    USE_CANCEL,
 }
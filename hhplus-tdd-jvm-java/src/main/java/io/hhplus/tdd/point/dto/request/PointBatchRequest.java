@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.dto.request;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+public record PointBatchRequest(
+        Long userId,
+        TransactionType type,
+        Long amount
+) {
+
+    public PointCommand toCommand() {
+        return new PointCommand(userId, type, amount);
+    }
+
+    /**
+     * 목록에 null 로 들어온 항목은 값이 모두 빠진 명령으로 바꿔, 일괄 처리에서 해당 항목의 오류로 남깁니다.
+     */
+    public static PointCommand commandOf(PointBatchRequest request) {
+        return request == null ? new PointCommand(null, null, null) : request.toCommand();
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.dto.response;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+public record PointBatchResponse(
+        Long userId,
+        TransactionType type,
+        Long amount,
+        boolean success,
+        UserPoint userPoint,
+        String message
+) {
+
+    public static PointBatchResponse success(PointCommand command, UserPoint userPoint) {
+        return new PointBatchResponse(command.userId(), command.type(), command.amount(), true, userPoint, null);
+    }
+
+    public static PointBatchResponse failure(PointCommand command, String message) {
+        return new PointBatchResponse(command.userId(), command.type(), command.amount(), false, null, message);
+    }
+}
@@ -1,15 +1,32 @@
 package io.hhplus.tdd.point.error;
 
+import org.springframework.http.HttpStatus;
+
 public enum ErrorCode {
-    INCORRECT_AMOUNT("포인트 충전 금액을 확인해주세요."),
-    NOT_ENOUGH_POINTS("사용할 수 있는 포인트가 부족합니다. 현재 포인트 : %d");
+    INCORRECT_AMOUNT(HttpStatus.BAD_REQUEST, "포인트 충전 금액을 확인해주세요."),
+    INCORRECT_USER_ID(HttpStatus.BAD_REQUEST, "사용자 id 를 확인해주세요."),
+    NOT_ENOUGH_POINTS(HttpStatus.BAD_REQUEST, "사용할 수 있는 포인트가 부족합니다. 현재 포인트 : %d"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key 로 다른 요청이 이미 처리되었습니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 의 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    INCORRECT_TRANSACTION_TYPE(HttpStatus.BAD_REQUEST, "충전(CHARGE) 또는 사용(USE) 만 요청할 수 있습니다."),
+    BATCH_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 처리할 수 있는 명령 수를 넘었습니다."),
+    INCORRECT_HISTORY_RANGE(HttpStatus.BAD_REQUEST, "조회 시작 시각은 종료 시각보다 앞서야 합니다."),
+    USER_LOCK_TIMEOUT(HttpStatus.TOO_MANY_REQUESTS, "같은 사용자의 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_CONCURRENT_REQUESTS(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    POINT_UPDATE_CONFLICT(HttpStatus.CONFLICT, "같은 사용자의 다른 요청과 충돌해 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
 
+    private final HttpStatus status;
     private final String message;
 
-    ErrorCode(String message){
+    ErrorCode(HttpStatus status, String message){
+        this.status = status;
         this.message = message;
     }
 
+    public HttpStatus getStatus() {
+        return status;
+    }
+
     public String getMessage(){
         return message;
     }
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.Map;
+
+/**
+ * position 까지의 저널 기록을 모두 반영한 사용자별 잔액입니다.
+ */
+public record BalanceSnapshot(
+        JournalPosition position,
+        long lastHistoryId,
+        Map<Long, UserPoint> balances
+) {
+
+    public static BalanceSnapshot empty() {
+        return new BalanceSnapshot(JournalPosition.START, 0L, Map.of());
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+/**
+ * 저널에 기록되는 충전/사용 한 건입니다. 포인트 내역 한 건과 일대일로 대응합니다.
+ */
+public record JournalEntry(
+        long historyId,
+        long userId,
+        TransactionType type,
+        long amount,
+        long timeMillis
+) {
+
+    public static JournalEntry of(PointHistory history) {
+        return new JournalEntry(history.id(), history.userId(), history.type(), history.amount(), history.timeMillis());
+    }
+
+    public PointHistory toHistory() {
+        return new PointHistory(historyId, userId, type, amount, timeMillis);
+    }
+
+    /**
+     * 충전(과 사용 취소)은 더하고 사용(과 충전 취소)은 빼는, 잔액에 대한 이 기록의 변화량입니다.
+     */
+    public long delta() {
+        return switch (type) {
+            case CHARGE, USE_CANCEL -> amount;
+            case USE, CHARGE_CANCEL -> -amount;
+        };
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.journal;
+
+/**
+ * 저널 안의 위치(세그먼트 번호와 세그먼트 내 바이트 오프셋)입니다.
+ */
+public record JournalPosition(
+        int segment,
+        int offset
+) implements Comparable<JournalPosition> {
+
+    public static final JournalPosition START = new JournalPosition(0, 0);
+
+    @Override
+    public int compareTo(JournalPosition other) {
+        int bySegment = Integer.compare(segment, other.segment);
+        return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+    }
+}
@@ -0,0 +1,460 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.support.PointExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 충전/사용 내역을 메모리 매핑된 세그먼트 파일에 순서대로 덧붙이는 저널입니다.
+ * 기록은 고정 길이(RECORD_BYTES)이며 CRC 로 검증하므로, 기록 도중 종료되어 잘린 꼬리는 재생 시 버려집니다.
+ * GROUP 동기화 모드에서는 sync-interval 마다 한 번 fsync 하고, 그 사이에 들어온 기록들은 fsync 가 끝날 때까지 함께 기다립니다.
+ * 생성 시 가장 최신 잔액 스냅숏을 읽고 그 이후의 기록만 재생해 사용자별 잔액과 마지막 내역 id 를 복구해 둡니다.
+ */
+@Slf4j
+@Component
+public final class PointJournal implements AutoCloseable {
+
+    public enum SyncMode {
+        /**
+         * 기록마다 fsync 하지 않고 페이지 캐시에 맡깁니다(세그먼트 교체와 스냅숏 시에만 fsync).
+         * 프로세스 종료에는 안전하지만 전원 장애에는 마지막 기록들이 유실될 수 있습니다.
+         */
+        NONE,
+        /**
+         * 주기적으로 모아서 fsync 하고, 기록한 쪽은 fsync 완료까지 기다립니다.
+         */
+        GROUP
+    }
+
+    static final int RECORD_BYTES = 40;
+    private static final int CHECKSUM_OFFSET = 36;
+    private static final String SEGMENT_PREFIX = "point-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final SyncMode syncMode;
+    private final Duration syncInterval;
+    private final ExecutorService syncExecutor;
+
+    private BalanceSnapshot recovered = BalanceSnapshot.empty();
+    private long recoveredEntries;
+
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    private long appended;
+    private final Object durableMonitor = new Object();
+    private long durable;
+    private volatile boolean closed;
+
+    /**
+     * 아무것도 기록하지 않는 저널을 만듭니다.
+     */
+    public static PointJournal disabled() {
+        return new PointJournal(false, null, 0, SyncMode.NONE, Duration.ZERO);
+    }
+
+    public PointJournal(Path directory, int segmentBytes, SyncMode syncMode, Duration syncInterval) {
+        this(true, directory, segmentBytes, syncMode, syncInterval);
+    }
+
+    @Autowired
+    public PointJournal(
+            @Value("${point.journal.enabled:false}") boolean enabled,
+            @Value("${point.journal.directory:data/journal}") Path directory,
+            @Value("${point.journal.segment-size:64MB}") DataSize segmentSize,
+            @Value("${point.journal.sync:group}") SyncMode syncMode,
+            @Value("${point.journal.sync-interval:5ms}") Duration syncInterval
+    ) {
+        this(enabled, directory, (int) Math.min(Integer.MAX_VALUE, segmentSize.toBytes()), syncMode, syncInterval);
+    }
+
+    private PointJournal(boolean enabled, Path directory, int segmentBytes, SyncMode syncMode, Duration syncInterval) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentBytes = segmentBytes / RECORD_BYTES * RECORD_BYTES;
+        this.syncMode = syncMode;
+        this.syncInterval = syncInterval;
+        if (!enabled) {
+            this.syncExecutor = null;
+            return;
+        }
+        if (this.segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("segment size must hold at least one record: " + segmentBytes);
+        }
+        open();
+        if (syncMode == SyncMode.GROUP) {
+            this.syncExecutor = PointExecutors.newFixedThreadPool("point-journal-sync", 1);
+            this.syncExecutor.execute(this::syncLoop);
+        } else {
+            this.syncExecutor = null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 세그먼트와 스냅숏이 저장되는 디렉터리입니다.
+     */
+    public Path directory() {
+        return directory;
+    }
+
+    /**
+     * 시작 시점까지의 기록을 모두 반영한 잔액입니다.
+     */
+    public BalanceSnapshot recoveredSnapshot() {
+        return recovered;
+    }
+
+    public Map<Long, UserPoint> recoveredBalances() {
+        return recovered.balances();
+    }
+
+    public long lastHistoryId() {
+        return recovered.lastHistoryId();
+    }
+
+    /**
+     * 시작 시 스냅숏 이후로 재생한 기록 수입니다.
+     */
+    public long recoveredEntries() {
+        return recoveredEntries;
+    }
+
+    /**
+     * 다음 기록이 들어갈 위치입니다.
+     */
+    public synchronized JournalPosition position() {
+        if (!enabled) {
+            return JournalPosition.START;
+        }
+        return new JournalPosition(segmentIndex, segment.position());
+    }
+
+    /**
+     * 내역 한 건을 기록합니다. GROUP 모드에서는 디스크에 반영될 때까지 기다립니다.
+     */
+    public void append(PointHistory history) throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        long sequence;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("journal is closed");
+            }
+            if (segment.remaining() < RECORD_BYTES) {
+                roll();
+            }
+            write(segment, JournalEntry.of(history));
+            sequence = ++appended;
+        }
+        if (syncMode == SyncMode.GROUP) {
+            awaitDurable(sequence);
+        }
+    }
+
+    /**
+     * 저장된 모든 기록을 기록 순서대로 전달합니다.
+     */
+    public void replay(Consumer<JournalEntry> consumer) {
+        replay(JournalPosition.START, position(), consumer);
+    }
+
+    /**
+     * from 이상 to 미만 위치의 기록을 기록 순서대로 전달합니다.
+     */
+    public void replay(JournalPosition from, JournalPosition to, Consumer<JournalEntry> consumer) {
+        if (!enabled) {
+            return;
+        }
+        for (int index = from.segment(); index <= to.segment(); index++) {
+            Path path = segmentPath(index);
+            if (!Files.exists(path)) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int start = index == from.segment() ? from.offset() : 0;
+                int end = index == to.segment() ? to.offset() : buffer.limit();
+                readValid(buffer, path, start, end, consumer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 지금까지 기록한 내용을 즉시 디스크에 반영하고, 반영된 마지막 위치를 반환합니다.
+     */
+    public JournalPosition sync() {
+        if (!enabled) {
+            return JournalPosition.START;
+        }
+        MappedByteBuffer target;
+        long sequence;
+        JournalPosition position;
+        synchronized (this) {
+            target = segment;
+            sequence = appended;
+            position = new JournalPosition(segmentIndex, segment.position());
+        }
+        target.force();
+        markDurable(sequence);
+        return position;
+    }
+
+    /**
+     * 잔액 스냅숏을 저널 디렉터리에 기록합니다. 스냅숏은 디스크에 반영된 위치까지만 포함해야 합니다.
+     */
+    public void writeSnapshot(BalanceSnapshot snapshot) {
+        if (enabled) {
+            SnapshotFiles.write(directory, snapshot);
+        }
+    }
+
+    /**
+     * position 이전의 기록만 담은 세그먼트를 지우고, 지운 세그먼트 수를 반환합니다.
+     * 보관 중인 가장 오래된 잔액 스냅숏보다 앞선 세그먼트만 지우므로 잔액 복구에 필요한 기록은 남으며,
+     * 잔액 스냅숏이 하나도 없으면 아무것도 지우지 않습니다.
+     */
+    public int truncateBefore(JournalPosition position) {
+        if (!enabled) {
+            return 0;
+        }
+        Optional<JournalPosition> oldestSnapshot = SnapshotFiles.oldestPosition(directory);
+        if (oldestSnapshot.isEmpty()) {
+            return 0;
+        }
+        int before = Math.min(position.segment(), oldestSnapshot.get().segment());
+        synchronized (this) {
+            before = Math.min(before, segmentIndex);
+        }
+        int deleted = 0;
+        try {
+            for (Path path : segmentPaths()) {
+                if (indexOf(path) >= before) {
+                    break;
+                }
+                Files.deleteIfExists(path);
+                deleted++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (deleted > 0) {
+            log.info("point journal deleted {} segments before segment {}", deleted, before);
+        }
+        return deleted;
+    }
+
+    static void apply(Map<Long, UserPoint> balances, JournalEntry entry) {
+        UserPoint current = balances.get(entry.userId());
+        long point = current == null ? entry.delta() : current.point() + entry.delta();
+        balances.put(entry.userId(), UserPoint.of(entry.userId(), point, entry.timeMillis()));
+    }
+
+    @Override
+    public void close() {
+        if (!enabled || closed) {
+            return;
+        }
+        closed = true;
+        if (syncExecutor != null) {
+            syncExecutor.shutdownNow();
+        }
+        sync();
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        List<Path> paths = segmentPaths();
+        segmentIndex = paths.isEmpty() ? 0 : indexOf(paths.get(paths.size() - 1));
+        segment = map(segmentPath(segmentIndex));
+        segment.position(validLength(segment));
+        JournalPosition end = new JournalPosition(segmentIndex, segment.position());
+
+        long startedAt = System.nanoTime();
+        BalanceSnapshot snapshot = SnapshotFiles.loadLatest(directory).orElse(BalanceSnapshot.empty());
+        if (snapshot.position().compareTo(end) > 0) {
+            log.warn("point snapshot at {} is ahead of the journal end {}, replaying the whole journal", snapshot.position(), end);
+            snapshot = BalanceSnapshot.empty();
+        }
+        Map<Long, UserPoint> balances = new HashMap<>(snapshot.balances());
+        long[] lastHistoryId = {snapshot.lastHistoryId()};
+        replay(snapshot.position(), end, entry -> {
+            apply(balances, entry);
+            lastHistoryId[0] = Math.max(lastHistoryId[0], entry.historyId());
+            recoveredEntries++;
+        });
+        recovered = new BalanceSnapshot(end, lastHistoryId[0], Collections.unmodifiableMap(balances));
+        log.info("point journal recovered {} users from snapshot {} and {} tail entries in {} ms",
+                balances.size(), snapshot.position(), recoveredEntries,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private void roll() {
+        segment.force();
+        segmentIndex++;
+        segment = map(segmentPath(segmentIndex));
+    }
+
+    private MappedByteBuffer map(Path path) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentBytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void syncLoop() {
+        long intervalNanos = Math.max(1L, syncInterval.toNanos());
+        while (!closed) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(intervalNanos);
+            } catch (InterruptedException e) {
+                return;
+            }
+            boolean pending;
+            synchronized (this) {
+                pending = appended > durable();
+            }
+            if (pending) {
+                sync();
+            }
+        }
+    }
+
+    private void awaitDurable(long sequence) throws InterruptedException {
+        synchronized (durableMonitor) {
+            while (durable < sequence) {
+                if (closed) {
+                    return;
+                }
+                durableMonitor.wait(Math.max(1L, syncInterval.toMillis() * 2));
+            }
+        }
+    }
+
+    private void markDurable(long sequence) {
+        synchronized (durableMonitor) {
+            if (sequence > durable) {
+                durable = sequence;
+                durableMonitor.notifyAll();
+            }
+        }
+    }
+
+    private long durable() {
+        synchronized (durableMonitor) {
+            return durable;
+        }
+    }
+
+    private List<Path> segmentPaths() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static int indexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static void write(MappedByteBuffer buffer, JournalEntry entry) {
+        int offset = buffer.position();
+        buffer.putLong(offset, entry.historyId());
+        buffer.putLong(offset + 8, entry.userId());
+        buffer.putLong(offset + 16, entry.amount());
+        buffer.putLong(offset + 24, entry.timeMillis());
+        buffer.put(offset + 32, (byte) entry.type().ordinal());
+        buffer.putInt(offset + CHECKSUM_OFFSET, checksum(buffer, offset));
+        buffer.position(offset + RECORD_BYTES);
+    }
+
+    private static void readValid(MappedByteBuffer buffer, Path path, int start, int end, Consumer<JournalEntry> consumer) {
+        int limit = Math.min(end, buffer.limit()) / RECORD_BYTES * RECORD_BYTES;
+        for (int offset = start; offset < limit; offset += RECORD_BYTES) {
+            if (!isValid(buffer, offset)) {
+                if (buffer.getLong(offset) != 0) {
+                    log.warn("point journal {} has a torn record at offset {}, ignoring the rest of the segment", path, offset);
+                }
+                return;
+            }
+            consumer.accept(new JournalEntry(
+                    buffer.getLong(offset),
+                    buffer.getLong(offset + 8),
+                    TYPES[buffer.get(offset + 32)],
+                    buffer.getLong(offset + 16),
+                    buffer.getLong(offset + 24)
+            ));
+        }
+    }
+
+    private static int validLength(MappedByteBuffer buffer) {
+        int limit = buffer.limit() / RECORD_BYTES * RECORD_BYTES;
+        int offset = 0;
+        while (offset < limit && isValid(buffer, offset)) {
+            offset += RECORD_BYTES;
+        }
+        return offset;
+    }
+
+    private static boolean isValid(MappedByteBuffer buffer, int offset) {
+        return buffer.getLong(offset) != 0
+                && buffer.get(offset + 32) >= 0 && buffer.get(offset + 32) < TYPES.length
+                && buffer.getInt(offset + CHECKSUM_OFFSET) == checksum(buffer, offset);
+    }
+
+    private static int checksum(MappedByteBuffer buffer, int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, CHECKSUM_OFFSET));
+        return (int) crc.getValue();
+    }
+}
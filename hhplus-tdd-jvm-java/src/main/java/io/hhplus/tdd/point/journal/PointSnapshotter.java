@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.support.PointExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주기적으로 사용자별 잔액 스냅숏을 남겨, 재시작 시 저널 전체 대신 스냅숏 이후의 기록만 재생하도록 합니다.
+ * 잔액은 PointService 의 상태를 잠그고 복사하는 대신, 직전 스냅숏에 저널의 새 기록을 직접 읽어 반영해 만들므로
+ * 충전/사용 요청을 막지 않습니다.
+ */
+@Slf4j
+@Component
+public final class PointSnapshotter implements AutoCloseable {
+
+    private final PointJournal pointJournal;
+    private final ScheduledExecutorService snapshotExecutor;
+
+    private final Map<Long, UserPoint> balances;
+    private JournalPosition position;
+    private long lastHistoryId;
+
+    public PointSnapshotter(PointJournal pointJournal) {
+        this(pointJournal, Duration.ZERO);
+    }
+
+    @Autowired
+    public PointSnapshotter(
+            PointJournal pointJournal,
+            @Value("${point.journal.snapshot-interval:1m}") Duration interval
+    ) {
+        this.pointJournal = pointJournal;
+        BalanceSnapshot recovered = pointJournal.recoveredSnapshot();
+        this.balances = new HashMap<>(recovered.balances());
+        this.position = recovered.position();
+        this.lastHistoryId = recovered.lastHistoryId();
+        if (!pointJournal.isEnabled() || interval.isZero()) {
+            this.snapshotExecutor = null;
+            return;
+        }
+        this.snapshotExecutor = PointExecutors.newSingleThreadScheduledExecutor("point-snapshot");
+        long intervalMillis = interval.toMillis();
+        this.snapshotExecutor.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 디스크에 반영된 저널 위치까지의 잔액으로 스냅숏을 기록하고 그 위치를 반환합니다.
+     */
+    public synchronized JournalPosition snapshot() {
+        if (!pointJournal.isEnabled()) {
+            return position;
+        }
+        JournalPosition target = pointJournal.sync();
+        if (target.equals(position)) {
+            return position;
+        }
+        long startedAt = System.nanoTime();
+        pointJournal.replay(position, target, entry -> {
+            PointJournal.apply(balances, entry);
+            lastHistoryId = Math.max(lastHistoryId, entry.historyId());
+        });
+        position = target;
+        pointJournal.writeSnapshot(new BalanceSnapshot(position, lastHistoryId, balances));
+        log.info("point snapshot of {} users written at {} in {} ms",
+                balances.size(), position, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return position;
+    }
+
+    @Override
+    public void close() {
+        if (snapshotExecutor == null) {
+            return;
+        }
+        snapshotExecutor.shutdown();
+        snapshotQuietly();
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("point snapshot failed", e);
+        }
+    }
+}
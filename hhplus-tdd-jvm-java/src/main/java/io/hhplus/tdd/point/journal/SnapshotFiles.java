@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 잔액 스냅숏을 이진 파일로 읽고 씁니다.
+ * 헤더(매직, 버전, 저널 위치, 마지막 내역 id, 사용자 수) 뒤에 사용자마다 24바이트(id, 잔액, 수정 시각)를 두고 CRC 로 끝납니다.
+ * 파일 이름에 저널 위치가 들어가므로 이름순으로 가장 마지막 파일이 최신 스냅숏입니다.
+ */
+@Slf4j
+final class SnapshotFiles {
+
+    private static final int MAGIC = 0x50534E50;
+    private static final int VERSION = 1;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final int RETAINED = 2;
+
+    private SnapshotFiles() {
+    }
+
+    static void write(Path directory, BalanceSnapshot snapshot) {
+        JournalPosition position = snapshot.position();
+        Path target = directory.resolve(String.format("%s%010d-%010d%s", PREFIX, position.segment(), position.offset(), SUFFIX));
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), new CRC32C());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(position.segment());
+            out.writeInt(position.offset());
+            out.writeLong(snapshot.lastHistoryId());
+            out.writeInt(snapshot.balances().size());
+            for (UserPoint userPoint : snapshot.balances().values()) {
+                out.writeLong(userPoint.id());
+                out.writeLong(userPoint.point());
+                out.writeLong(userPoint.updateMillis());
+            }
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            prune(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 읽을 수 있는 가장 최신 스냅숏을 반환합니다. 손상된 파일은 건너뜁니다.
+     */
+    static Optional<BalanceSnapshot> loadLatest(Path directory) {
+        List<Path> paths = list(directory);
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            try {
+                return Optional.of(read(paths.get(i)));
+            } catch (IOException | IllegalStateException e) {
+                log.warn("point snapshot {} is unreadable, trying an older one", paths.get(i), e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 보관 중인 가장 오래된 스냅숏의 저널 위치입니다. 파일 이름에서 읽으므로 손상된 파일도 포함합니다.
+     */
+    static Optional<JournalPosition> oldestPosition(Path directory) {
+        List<Path> paths = list(directory);
+        if (paths.isEmpty()) {
+            return Optional.empty();
+        }
+        String name = paths.get(0).getFileName().toString();
+        String[] parts = name.substring(PREFIX.length(), name.length() - SUFFIX.length()).split("-");
+        return Optional.of(new JournalPosition(Integer.parseInt(parts[0]), Integer.parseInt(parts[1])));
+    }
+
+    private static BalanceSnapshot read(Path path) throws IOException {
+        try (InputStream file = Files.newInputStream(path)) {
+            CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, 1 << 16), new CRC32C());
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IllegalStateException("not a point snapshot: " + path);
+            }
+            JournalPosition position = new JournalPosition(in.readInt(), in.readInt());
+            long lastHistoryId = in.readLong();
+            int size = in.readInt();
+            Map<Long, UserPoint> balances = new HashMap<>(Math.max(16, (int) (size / 0.75f) + 1));
+            for (int i = 0; i < size; i++) {
+                long userId = in.readLong();
+                balances.put(userId, UserPoint.of(userId, in.readLong(), in.readLong()));
+            }
+            int expected = (int) checked.getChecksum().getValue();
+            if (in.readInt() != expected) {
+                throw new IllegalStateException("point snapshot checksum mismatch: " + path);
+            }
+            return new BalanceSnapshot(position, lastHistoryId, balances);
+        }
+    }
+
+    private static void prune(Path directory) throws IOException {
+        List<Path> paths = list(directory);
+        for (int i = 0; i < paths.size() - RETAINED; i++) {
+            Files.deleteIfExists(paths.get(i));
+        }
+    }
+
+    private static List<Path> list(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
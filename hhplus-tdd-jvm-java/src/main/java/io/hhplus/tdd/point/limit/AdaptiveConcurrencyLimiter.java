@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.limit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 관측한 지연 시간에 따라 동시 처리 한도를 조절하는 AIMD 리미터입니다.
+ * 응답이 목표 지연 이내이고 한도의 절반 이상을 사용 중이면 한도를 요청 한도 수마다 1씩 늘리고(additive increase),
+ * 목표 지연을 넘기면 backoffRatio 를 곱해 줄입니다(multiplicative decrease).
+ * 단, 마지막으로 줄인 뒤에 시작한 요청의 응답만 줄이는 데 반영합니다. 같은 지연 구간을 겪은 요청들이 한꺼번에 끝나도
+ * 한도는 한 단계만 줄어들고, 다음 감소는 줄어든 한도로 처리한 요청이 다시 느릴 때 일어납니다.
+ * 한도만큼 처리 중이면 새 요청은 줄을 세우지 않고 즉시 거절합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final long targetLatencyNanos;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private volatile double limit;
+    private long lastDecreaseNanos = Long.MIN_VALUE;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration targetLatency, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, targetLatency, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration targetLatency, double backoffRatio, LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("invalid limit range: " + minLimit + " ~ " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 한도 안이면 처리 중 요청 수를 늘리고 true 를 반환합니다. 허용된 요청은 반드시 release 해야 합니다.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                shed.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 허용된 요청이 끝났을 때 걸린 시간으로 한도를 조절합니다.
+     */
+    public void release(long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        long now = nanoClock.getAsLong();
+        synchronized (this) {
+            if (latencyNanos > targetLatencyNanos) {
+                if (now - latencyNanos >= lastDecreaseNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = now;
+                }
+            } else if (current * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    public LimiterStats stats() {
+        return new LimiterStats((int) limit, inFlight.get(), accepted.sum(), shed.sum());
+    }
+
+    public record LimiterStats(
+            int limit,
+            int inFlight,
+            long accepted,
+            long shed
+    ) {
+
+        public double shedRate() {
+            long requests = accepted + shed;
+            return requests == 0 ? 0.0 : (double) shed / requests;
+        }
+    }
+}
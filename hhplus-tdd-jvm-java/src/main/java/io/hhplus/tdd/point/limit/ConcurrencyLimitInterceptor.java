@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point.limit;
+
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 포인트 API 요청을 AdaptiveConcurrencyLimiter 로 받아들일지 결정합니다.
+ * 한도를 넘는 요청은 테이블 앞에서 기다리게 두지 않고 TOO_MANY_CONCURRENT_REQUESTS(503) 으로 바로 거절합니다.
+ * 비동기 응답(스트리밍 등)은 처음 요청에서 한 번만 허용을 받고, 비동기 처리가 끝난 뒤의 afterCompletion 에서 반납합니다.
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = ConcurrencyLimitInterceptor.class.getName() + ".startedAt";
+
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter limiter) {
+        this.enabled = true;
+        this.limiter = limiter;
+    }
+
+    @Autowired
+    public ConcurrencyLimitInterceptor(
+            @Value("${point.limiter.enabled:false}") boolean enabled,
+            @Value("${point.limiter.initial-limit:64}") int initialLimit,
+            @Value("${point.limiter.min-limit:4}") int minLimit,
+            @Value("${point.limiter.max-limit:1000}") int maxLimit,
+            @Value("${point.limiter.target-latency:1s}") Duration targetLatency,
+            @Value("${point.limiter.backoff-ratio:0.9}") double backoffRatio
+    ) {
+        this.enabled = enabled;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, targetLatency, backoffRatio);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled || request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            throw new PointException(ErrorCode.TOO_MANY_CONCURRENT_REQUESTS);
+        }
+        request.setAttribute(STARTED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(STARTED_AT) instanceof Long startedAt) {
+            request.removeAttribute(STARTED_AT);
+            limiter.release(System.nanoTime() - startedAt);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter.LimiterStats stats() {
+        return limiter.stats();
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.cache.CacheStats;
+import io.hhplus.tdd.point.database.HedgedUserPointReader;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.limit.ConcurrencyLimitInterceptor;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import io.hhplus.tdd.point.service.engine.MailboxPointEngine;
+import io.hhplus.tdd.point.service.engine.OptimisticPointEngine;
+import io.hhplus.tdd.point.service.engine.PartitionedPointEngine;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 구성 요소들이 이미 집계하고 있는 통계(stats())를 스크랩 시점에 읽어 가는 지표로 연결합니다.
+ * 엔진처럼 설정에 따라 없는 빈은 건너뜁니다.
+ */
+@Component
+public class PointMeterBinder implements MeterBinder {
+
+    private final ObjectProvider<UserPointStore> userPointStore;
+    private final ObjectProvider<PointHistoryStore> pointHistoryStore;
+    private final ObjectProvider<HedgedUserPointReader> hedgedUserPointReader;
+    private final ObjectProvider<IdempotencyRegistry> idempotencyRegistry;
+    private final ObjectProvider<UserLockManager> userLockManager;
+    private final ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor;
+    private final ObjectProvider<PointAsyncService> pointAsyncService;
+    private final ObjectProvider<OptimisticPointEngine> optimisticPointEngine;
+    private final ObjectProvider<MailboxPointEngine> mailboxPointEngine;
+    private final ObjectProvider<PartitionedPointEngine> partitionedPointEngine;
+
+    public PointMeterBinder(
+            ObjectProvider<UserPointStore> userPointStore,
+            ObjectProvider<PointHistoryStore> pointHistoryStore,
+            ObjectProvider<HedgedUserPointReader> hedgedUserPointReader,
+            ObjectProvider<IdempotencyRegistry> idempotencyRegistry,
+            ObjectProvider<UserLockManager> userLockManager,
+            ObjectProvider<ConcurrencyLimitInterceptor> concurrencyLimitInterceptor,
+            ObjectProvider<PointAsyncService> pointAsyncService,
+            ObjectProvider<OptimisticPointEngine> optimisticPointEngine,
+            ObjectProvider<MailboxPointEngine> mailboxPointEngine,
+            ObjectProvider<PartitionedPointEngine> partitionedPointEngine
+    ) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.hedgedUserPointReader = hedgedUserPointReader;
+        this.idempotencyRegistry = idempotencyRegistry;
+        this.userLockManager = userLockManager;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.pointAsyncService = pointAsyncService;
+        this.optimisticPointEngine = optimisticPointEngine;
+        this.mailboxPointEngine = mailboxPointEngine;
+        this.partitionedPointEngine = partitionedPointEngine;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        userPointStore.ifAvailable(store -> bindCache(registry, "balance", store, UserPointStore::cacheStats));
+        idempotencyRegistry.ifAvailable(idempotency -> bindCache(registry, "idempotency", idempotency, IdempotencyRegistry::stats));
+
+        pointHistoryStore.ifAvailable(store -> gauge(registry, "point.history.users", store, PointHistoryStore::users));
+
+        hedgedUserPointReader.ifAvailable(reader -> {
+            counter(registry, "point.hedge.reads", reader, it -> it.stats().reads());
+            counter(registry, "point.hedge.hedges", reader, it -> it.stats().hedges());
+            counter(registry, "point.hedge.wins", reader, it -> it.stats().hedgeWins());
+            counter(registry, "point.hedge.skipped", reader, it -> it.stats().hedgesSkipped());
+            Gauge.builder("point.hedge.delay", reader, it -> it.stats().delayMillis())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        });
+
+        userLockManager.ifAvailable(lockManager -> {
+            counter(registry, "point.lock.rejections", lockManager, UserLockManager::rejections);
+            gauge(registry, "point.lock.active", lockManager, UserLockManager::activeLocks);
+        });
+
+        concurrencyLimitInterceptor.ifAvailable(interceptor -> {
+            gauge(registry, "point.limiter.limit", interceptor, it -> it.stats().limit());
+            gauge(registry, "point.limiter.in.flight", interceptor, it -> it.stats().inFlight());
+            counter(registry, "point.limiter.accepted", interceptor, it -> it.stats().accepted());
+            counter(registry, "point.limiter.shed", interceptor, it -> it.stats().shed());
+        });
+
+        pointAsyncService.ifAvailable(asyncService -> {
+            gauge(registry, "point.async.active", asyncService, PointAsyncService::active);
+            gauge(registry, "point.async.queued", asyncService, PointAsyncService::queued);
+            counter(registry, "point.async.rejections", asyncService, PointAsyncService::rejections);
+        });
+
+        optimisticPointEngine.ifAvailable(engine -> {
+            counter(registry, "point.optimistic.committed", engine, it -> it.stats().committed());
+            counter(registry, "point.optimistic.retried", engine, it -> it.stats().retried());
+            counter(registry, "point.optimistic.conflicts", engine, it -> it.stats().conflicts());
+        });
+        mailboxPointEngine.ifAvailable(engine -> FunctionCounter.builder("point.engine.rejections", engine, MailboxPointEngine::rejections)
+                .tags("engine", "mailbox")
+                .register(registry));
+        partitionedPointEngine.ifAvailable(engine -> FunctionCounter.builder("point.engine.rejections", engine, PartitionedPointEngine::rejections)
+                .tags("engine", "partitioned")
+                .register(registry));
+    }
+
+    // 미터는 대상 객체를 약하게 참조하므로, 통계를 꺼내는 람다가 아니라 빈 자체를 대상으로 등록합니다.
+    private static <T> void bindCache(MeterRegistry registry, String cache, T target, Function<T, CacheStats> stats) {
+        FunctionCounter.builder("point.cache.hits", target, it -> stats.apply(it).hits()).tags("cache", cache).register(registry);
+        FunctionCounter.builder("point.cache.misses", target, it -> stats.apply(it).misses()).tags("cache", cache).register(registry);
+        FunctionCounter.builder("point.cache.evictions", target, it -> stats.apply(it).evictions()).tags("cache", cache).register(registry);
+        Gauge.builder("point.cache.size", target, it -> stats.apply(it).size()).tags("cache", cache).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T target, ToLongFunction<T> count) {
+        FunctionCounter.builder(name, target, it -> count.applyAsLong(it)).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value).register(registry);
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.error.PointException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 모듈이 처리 중에 직접 기록하는 지표입니다. 이미 통계를 집계하고 있는 구성 요소는 PointMeterBinder 가 따로 연결합니다.
+ * point.table.calls         테이블 호출 시간 (table, operation)
+ * point.lock.wait           사용자 락을 얻기까지 기다린 시간
+ * point.transactions        충전/사용 건수 (type, result, reason)
+ * point.history.size        내역을 추가한 직후 해당 사용자의 내역 수
+ * 자주 호출되는 경로의 미터는 미리 만들어 두어 기록할 때 레지스트리를 조회하지 않습니다.
+ */
+@Component
+public class PointMetrics {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lockWait;
+    private final DistributionSummary historySize;
+    private final Counter[] succeeded;
+
+    /**
+     * 아무 곳에도 기록하지 않는 인스턴스입니다. (레지스트리가 없는 CompositeMeterRegistry)
+     */
+    public static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lockWait = Timer.builder("point.lock.wait")
+                .description("time spent waiting for the per-user critical section")
+                .register(meterRegistry);
+        this.historySize = DistributionSummary.builder("point.history.size")
+                .description("number of history entries of the user right after an insert")
+                .baseUnit("entries")
+                .register(meterRegistry);
+        TransactionType[] types = TransactionType.values();
+        this.succeeded = new Counter[types.length];
+        for (TransactionType type : types) {
+            succeeded[type.ordinal()] = transactions(type, "success", NONE);
+        }
+    }
+
+    public MeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
+
+    public Timer tableTimer(String table, String operation) {
+        return Timer.builder("point.table.calls")
+                .description("time spent in UserPointTable/PointHistoryTable calls")
+                .tags("table", table, "operation", operation)
+                .register(meterRegistry);
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHistorySize(long size) {
+        historySize.record(size);
+    }
+
+    public void recordSuccess(TransactionType type) {
+        succeeded[type.ordinal()].increment();
+    }
+
+    /**
+     * 실패 사유는 PointException 이면 ErrorCode 이름, 그 밖의 예외는 클래스 이름입니다.
+     */
+    public void recordFailure(TransactionType type, Throwable cause) {
+        String reason = cause instanceof PointException pointException
+                ? pointException.getErrorCode().name()
+                : cause.getClass().getSimpleName();
+        transactions(type, "failure", reason).increment();
+    }
+
+    private Counter transactions(TransactionType type, String result, String reason) {
+        return Counter.builder("point.transactions")
+                .description("point charge/use requests by result")
+                .tags("type", type.name().toLowerCase(Locale.ROOT), "result", result, "reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.database.DelegatingTable;
+import io.hhplus.tdd.point.database.PointHistoryTable;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointHistoryTable 의 공개 API 를 감싸 호출 시간을 point.table.calls 로 기록합니다.
+ */
+public class TimedPointHistoryTable extends PointHistoryTable implements DelegatingTable {
+
+    private final PointHistoryTable delegate;
+    private final Timer insert;
+    private final Timer selectAllByUserId;
+
+    public TimedPointHistoryTable(PointHistoryTable delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.insert = pointMetrics.tableTimer("point_history", "insert");
+        this.selectAllByUserId = pointMetrics.tableTimer("point_history", "select_all_by_user_id");
+    }
+
+    @Override
+    public PointHistoryTable delegate() {
+        return delegate;
+    }
+
+    @Override
+    public PointHistory insert(Long id, Long amount, TransactionType transactionType, Long updateMillis) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        try {
+            return delegate.insert(id, amount, transactionType, updateMillis);
+        } finally {
+            insert.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(Long userId) {
+        long startedAt = System.nanoTime();
+        try {
+            return delegate.selectAllByUserId(userId);
+        } finally {
+            selectAllByUserId.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.database.PointHistoryTable;
+import io.hhplus.tdd.point.database.UserPointTable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테이블 빈을 호출 시간을 기록하는 Timed*Table 로 감쌉니다.
+ * Table 클래스는 변경하지 않고, 테이블을 주입받는 쪽(UserPointStore, HedgedUserPointReader, PointHistoryStore)도 그대로 둡니다.
+ * 빈 후처리기는 다른 빈보다 먼저 만들어지므로 PointMetrics 는 테이블 빈을 감쌀 때 꺼냅니다.
+ */
+@Component
+public class TimedPointTables implements BeanPostProcessor {
+
+    private final ObjectProvider<PointMetrics> pointMetrics;
+
+    public TimedPointTables(ObjectProvider<PointMetrics> pointMetrics) {
+        this.pointMetrics = pointMetrics;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof UserPointTable userPointTable && !(bean instanceof TimedUserPointTable)) {
+            return new TimedUserPointTable(userPointTable, pointMetrics.getObject());
+        }
+        if (bean instanceof PointHistoryTable pointHistoryTable && !(bean instanceof TimedPointHistoryTable)) {
+            return new TimedPointHistoryTable(pointHistoryTable, pointMetrics.getObject());
+        }
+        return bean;
+    }
+}
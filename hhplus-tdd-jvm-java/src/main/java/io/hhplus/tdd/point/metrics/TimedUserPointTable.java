@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.database.DelegatingTable;
+import io.hhplus.tdd.point.database.UserPointTable;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPointTable 의 공개 API 를 감싸 호출 시간을 point.table.calls 로 기록합니다.
+ */
+public class TimedUserPointTable extends UserPointTable implements DelegatingTable {
+
+    private final UserPointTable delegate;
+    private final Timer selectById;
+    private final Timer insertOrUpdate;
+
+    public TimedUserPointTable(UserPointTable delegate, PointMetrics pointMetrics) {
+        this.delegate = delegate;
+        this.selectById = pointMetrics.tableTimer("user_point", "select_by_id");
+        this.insertOrUpdate = pointMetrics.tableTimer("user_point", "insert_or_update");
+    }
+
+    @Override
+    public UserPointTable delegate() {
+        return delegate;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        try {
+            return delegate.selectById(id);
+        } finally {
+            selectById.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(Long id, Long amount) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        try {
+            return delegate.insertOrUpdate(id, amount);
+        } finally {
+            insertOrUpdate.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.support.BoundedExecutor;
+import io.hhplus.tdd.point.support.PointExecutors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PointService 의 잔액 조회/충전/사용을 크기가 정해진 실행기에서 처리하고 결과를 CompletableFuture 로 돌려줍니다.
+ * 컨트롤러가 Future 를 반환하면 서블릿 스레드는 테이블 호출을 기다리지 않고 바로 반납되며, 테이블 지연은 실행기 스레드가 대신 기다립니다.
+ * 실행기 대기열까지 가득 차면 TOO_MANY_CONCURRENT_REQUESTS(503) 으로 실패한 Future 를 반환합니다.
+ */
+@Service
+public class PointAsyncService implements AutoCloseable {
+
+    private final PointService pointService;
+    private final BoundedExecutor asyncExecutor;
+    private final LongAdder rejections = new LongAdder();
+
+    public PointAsyncService(PointService pointService, int threads, int queueCapacity) {
+        this(pointService, threads, queueCapacity, false);
+    }
+
+    @Autowired
+    public PointAsyncService(
+            PointService pointService,
+            @Value("${point.async.threads:200}") int threads,
+            @Value("${point.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${point.executor.virtual-threads:false}") boolean virtualThreads
+    ) {
+        this.pointService = pointService;
+        this.asyncExecutor = PointExecutors.newBoundedExecutor("point-async", threads, queueCapacity, virtualThreads);
+    }
+
+    public CompletableFuture<UserPoint> checkPoint(Long userId) {
+        return submit(() -> pointService.checkPoint(userId));
+    }
+
+    public CompletableFuture<UserPoint> chargePoint(Long userId, long amount, String idempotencyKey) {
+        return submit(() -> pointService.chargePoint(userId, amount, idempotencyKey));
+    }
+
+    public CompletableFuture<UserPoint> usePoint(Long userId, long amount, String idempotencyKey) {
+        return submit(() -> pointService.usePoint(userId, amount, idempotencyKey));
+    }
+
+    /**
+     * 대기열이 가득 차 거절된 요청 수입니다.
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    /**
+     * 실행기 스레드를 기다리는 요청 수입니다.
+     */
+    public int queued() {
+        return asyncExecutor.queued();
+    }
+
+    /**
+     * 실행기 스레드에서 처리 중인 요청 수입니다.
+     */
+    public int active() {
+        return asyncExecutor.active();
+    }
+
+    @Override
+    public void close() {
+        asyncExecutor.shutdown();
+    }
+
+    // supplyAsync 와 달리 예외를 CompletionException 으로 감싸지 않고 그대로 전달합니다.
+    private CompletableFuture<UserPoint> submit(PointTask task) {
+        CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        try {
+            asyncExecutor.execute(() -> {
+                try {
+                    result.complete(task.execute());
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            result.completeExceptionally(new PointException(ErrorCode.TOO_MANY_CONCURRENT_REQUESTS));
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface PointTask {
+        UserPoint execute() throws Exception;
+    }
+}
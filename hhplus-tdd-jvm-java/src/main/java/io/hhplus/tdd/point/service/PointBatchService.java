@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.dto.response.PointBatchResponse;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.support.PointExecutors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 여러 건의 포인트 충전/사용 명령을 사용자별로 묶어 처리합니다.
+ * 서로 다른 사용자의 명령은 병렬로, 같은 사용자의 명령은 요청 순서대로 처리됩니다.
+ * 각 명령은 PointService 를 거치므로 단건 요청과 같은 지표 집계와 멱등 처리를 받습니다.
+ * 사용자 id, 유형, 금액이 빠진 명령은 묶기 전에 걸러 해당 항목에만 오류 결과를 남깁니다.
+ */
+@Service
+public class PointBatchService implements AutoCloseable {
+
+    private final PointService pointService;
+    private final int maxSize;
+    private final ExecutorService batchExecutor;
+
+    public PointBatchService(PointService pointService, int threads) {
+        this(pointService, threads, 1_000, false);
+    }
+
+    @Autowired
+    public PointBatchService(
+            PointService pointService,
+            @Value("${point.batch.threads:32}") int threads,
+            @Value("${point.batch.max-size:1000}") int maxSize,
+            @Value("${point.executor.virtual-threads:false}") boolean virtualThreads
+    ) {
+        this.pointService = pointService;
+        this.maxSize = maxSize;
+        this.batchExecutor = PointExecutors.newExecutor("point-batch", threads, virtualThreads);
+    }
+
+    public List<PointBatchResponse> execute(List<PointCommand> commands) throws InterruptedException {
+        return execute(commands, null);
+    }
+
+    /**
+     * idempotencyKey 가 있으면 명령마다 "키:순번" 을 멱등 키로 사용하므로, 같은 일괄 요청을 다시 보내도 이미 처리된 명령은 다시 처리되지 않습니다.
+     *
+     * @return 요청과 같은 순서의 명령별 처리 결과
+     */
+    public List<PointBatchResponse> execute(List<PointCommand> commands, String idempotencyKey) throws InterruptedException {
+        if (commands.size() > maxSize) {
+            throw new PointException(ErrorCode.BATCH_TOO_LARGE);
+        }
+        PointBatchResponse[] responses = new PointBatchResponse[commands.size()];
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            PointCommand command = commands.get(i);
+            try {
+                validate(command);
+            } catch (PointException e) {
+                responses[i] = PointBatchResponse.failure(command, e.getMessage());
+                continue;
+            }
+            indexesByUser.computeIfAbsent(command.userId(), userId -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<Void>> users = new ArrayList<>(indexesByUser.size());
+        for (List<Integer> indexes : indexesByUser.values()) {
+            users.add(CompletableFuture.runAsync(() -> {
+                for (int index : indexes) {
+                    responses[index] = executeOne(commands.get(index), itemKey(idempotencyKey, index));
+                }
+            }, batchExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(users.toArray(CompletableFuture[]::new)).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return Arrays.asList(responses);
+    }
+
+    @Override
+    public void close() {
+        batchExecutor.shutdown();
+    }
+
+    private PointBatchResponse executeOne(PointCommand command, String idempotencyKey) {
+        try {
+            return PointBatchResponse.success(command, pointService.execute(command, idempotencyKey));
+        } catch (Exception e) {
+            return PointBatchResponse.failure(command, e.getMessage());
+        }
+    }
+
+    private static void validate(PointCommand command) {
+        if (command.userId() == null) {
+            throw new PointException(ErrorCode.INCORRECT_USER_ID);
+        }
+        if (command.type() != TransactionType.CHARGE && command.type() != TransactionType.USE) {
+            throw new PointException(ErrorCode.INCORRECT_TRANSACTION_TYPE);
+        }
+        if (command.amount() == null) {
+            throw new PointException(ErrorCode.INCORRECT_AMOUNT);
+        }
+    }
+
+    private static String itemKey(String idempotencyKey, int index) {
+        return idempotencyKey == null || idempotencyKey.isBlank() ? null : idempotencyKey + ":" + index;
+    }
+}
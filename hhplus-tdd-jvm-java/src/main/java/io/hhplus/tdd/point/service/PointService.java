@@ -1,47 +1,195 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.database.PointHistoryStore;
 import io.hhplus.tdd.point.database.PointHistoryTable;
+import io.hhplus.tdd.point.database.UserPointStore;
 import io.hhplus.tdd.point.database.UserPointTable;
+import io.hhplus.tdd.point.domain.PointCommand;
 import io.hhplus.tdd.point.dto.PointDto;
-import io.hhplus.tdd.point.error.ErrorCode;
-import io.hhplus.tdd.point.domain.constant.TransactionType;
 import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
 import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.service.engine.LockingPointEngine;
+import io.hhplus.tdd.point.service.engine.PointEngine;
+import io.hhplus.tdd.point.service.engine.PointWriter;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.util.List;
 
 @Service
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointEngine pointEngine;
+    private final IdempotencyRegistry idempotencyRegistry;
+    private final PointMetrics pointMetrics;
 
     public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+        this(new UserPointStore(userPointTable), new PointHistoryStore(pointHistoryTable));
+    }
+
+    private PointService(UserPointStore userPointStore, PointHistoryStore pointHistoryStore) {
+        this(userPointStore, pointHistoryStore, new LockingPointEngine(userPointStore, new PointWriter(userPointStore, pointHistoryStore), new UserLockManager()), new IdempotencyRegistry());
+    }
+
+    public PointService(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, PointEngine pointEngine, IdempotencyRegistry idempotencyRegistry) {
+        this(userPointStore, pointHistoryStore, pointEngine, idempotencyRegistry, PointMetrics.noop());
+    }
+
+    @Autowired
+    public PointService(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, PointEngine pointEngine, IdempotencyRegistry idempotencyRegistry, PointMetrics pointMetrics) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointEngine = pointEngine;
+        this.idempotencyRegistry = idempotencyRegistry;
+        this.pointMetrics = pointMetrics;
+    }
+
+    public UserPoint chargePoint(PointDto pointDto) throws Exception {
+        return chargePoint(pointDto.userId(), pointDto.amount());
+    }
+
+    /**
+     * PointDto/PointCommand 를 거치지 않는 원시 타입 경로입니다.
+     */
+    public UserPoint chargePoint(Long userId, long amount) throws Exception {
+        return execute(userId, TransactionType.CHARGE, amount, null);
     }
 
-    public synchronized UserPoint chargePoint(PointDto pointDto) throws Exception {
-        UserPoint userPoint = userPointTable.selectById(pointDto.userId())
-                .charge(pointDto.amount());
+    /**
+     * idempotencyKey 가 있으면 같은 키로 이미 처리된 요청의 결과를 재사용합니다.
+     */
+    public UserPoint chargePoint(PointDto pointDto, String idempotencyKey) throws Exception {
+        return chargePoint(pointDto.userId(), pointDto.amount(), idempotencyKey);
+    }
 
-        pointHistoryTable.insert(pointDto.userId(), pointDto.amount(), TransactionType.CHARGE, System.currentTimeMillis());
-        return userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
+    public UserPoint chargePoint(Long userId, long amount, String idempotencyKey) throws Exception {
+        return execute(userId, TransactionType.CHARGE, amount, idempotencyKey);
     }
 
     public UserPoint checkPoint(Long userId) throws InterruptedException {
-        return userPointTable.selectById(userId);
+        return userPointStore.selectById(userId);
     }
 
     public List<PointHistory> checkPointHistory(Long userId){
-        return pointHistoryTable.selectAllByUserId(userId);
+        return pointHistoryStore.selectAllByUserId(userId);
+    }
+
+    public PointHistoryPage checkPointHistory(Long userId, Long cursor, int limit) {
+        return pointHistoryStore.selectPageByUserId(userId, cursor, limit);
+    }
+
+    /**
+     * cursor 이후의 내역 중 시각이 from 이상 to 미만인 내역을 limit 건씩 조회합니다. from/to 가 없으면 해당 방향으로 제한하지 않고, type 이 없으면 모든 유형을 조회합니다.
+     */
+    public PointHistoryPage checkPointHistory(Long userId, Long cursor, int limit, Long from, Long to, TransactionType type) {
+        long start = from == null ? Long.MIN_VALUE : from;
+        long end = to == null ? Long.MAX_VALUE : to;
+        if (start > end) {
+            throw new PointException(ErrorCode.INCORRECT_HISTORY_RANGE);
+        }
+        return pointHistoryStore.selectPageByUserId(userId, cursor, limit, start, end, type);
+    }
+
+    /**
+     * 전체 내역을 id 순서로 한 건씩 전달합니다.
+     * 커서로 EXPORT_PAGE_SIZE 건씩 나누어 읽으므로 내역이 아무리 많아도 한 페이지 분량만 메모리에 올라갑니다.
+     */
+    public void exportPointHistory(Long userId, PointHistoryConsumer consumer) throws IOException {
+        Long cursor = null;
+        do {
+            PointHistoryPage page = pointHistoryStore.selectPageByUserId(userId, cursor, EXPORT_PAGE_SIZE);
+            for (PointHistory history : page.histories()) {
+                consumer.accept(history);
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    /**
+     * 시각이 from 이상 to 미만인 내역을 조회합니다. from/to 가 없으면 해당 방향으로 제한하지 않고, type 이 없으면 모든 유형을 조회합니다.
+     */
+    public List<PointHistory> checkPointHistory(Long userId, Long from, Long to, TransactionType type) {
+        long start = from == null ? Long.MIN_VALUE : from;
+        long end = to == null ? Long.MAX_VALUE : to;
+        if (start > end) {
+            throw new PointException(ErrorCode.INCORRECT_HISTORY_RANGE);
+        }
+        return pointHistoryStore.selectByUserIdAndTime(userId, start, end, type);
+    }
+
+    /**
+     * 누적 충전/사용 합계와 최근 days 일의 일자별 합계를 조회합니다.
+     */
+    public PointSummary checkPointSummary(Long userId, int days) {
+        return pointHistoryStore.summarize(userId, days);
+    }
+
+    public UserPoint usePoint(PointDto pointDto) throws Exception {
+        return usePoint(pointDto.userId(), pointDto.amount());
+    }
+
+    public UserPoint usePoint(Long userId, long amount) throws Exception {
+        return execute(userId, TransactionType.USE, amount, null);
+    }
+
+    public UserPoint usePoint(PointDto pointDto, String idempotencyKey) throws Exception {
+        return usePoint(pointDto.userId(), pointDto.amount(), idempotencyKey);
+    }
+
+    public UserPoint usePoint(Long userId, long amount, String idempotencyKey) throws Exception {
+        return execute(userId, TransactionType.USE, amount, idempotencyKey);
+    }
+
+    /**
+     * 일괄 처리 항목처럼 이미 PointCommand 로 만들어진 명령을 처리합니다. 단건 충전/사용과 같은 지표 집계와 멱등 처리를 거칩니다.
+     */
+    public UserPoint execute(PointCommand command, String idempotencyKey) throws Exception {
+        if (command.amount() == null) {
+            throw new PointException(ErrorCode.INCORRECT_AMOUNT);
+        }
+        return execute(command.userId(), command.type(), command.amount(), idempotencyKey);
+    }
+
+    /**
+     * 처리 결과를 point.transactions 로 집계합니다.
+     */
+    private UserPoint execute(Long userId, TransactionType type, long amount, String idempotencyKey) throws Exception {
+        try {
+            UserPoint userPoint = dispatch(userId, type, amount, idempotencyKey);
+            pointMetrics.recordSuccess(type);
+            return userPoint;
+        } catch (Exception e) {
+            pointMetrics.recordFailure(type, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 멱등 키가 없으면 원시 타입 경로로 처리하고, 있을 때만 결과 보관을 위해 PointCommand 를 만듭니다.
+     */
+    private UserPoint dispatch(Long userId, TransactionType type, long amount, String idempotencyKey) throws Exception {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return pointEngine.execute(userId, type, amount);
+        }
+        PointCommand command = new PointCommand(userId, type, amount);
+        return idempotencyRegistry.execute(idempotencyKey, command, () -> pointEngine.execute(command));
     }
 
-    public synchronized UserPoint usePoint(PointDto pointDto) throws Exception {
-        UserPoint userPoint = userPointTable.selectById(pointDto.userId())
-                .use(pointDto.amount());
-        pointHistoryTable.insert(pointDto.userId(), pointDto.amount(), TransactionType.USE, System.currentTimeMillis());
-        return userPointTable.insertOrUpdate(userPoint.id(), userPoint.point());
+    @FunctionalInterface
+    public interface PointHistoryConsumer {
+        void accept(PointHistory history) throws IOException;
     }
 }
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 락을 잡은 상태에서 조회 - 계산 - 내역 저장 - 잔액 저장을 수행합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.engine", havingValue = "lock", matchIfMissing = true)
+public class LockingPointEngine implements PointEngine {
+
+    private final UserPointStore userPointStore;
+    private final PointWriter pointWriter;
+    private final UserLockManager userLockManager;
+
+    public LockingPointEngine(UserPointStore userPointStore, PointWriter pointWriter, UserLockManager userLockManager) {
+        this.userPointStore = userPointStore;
+        this.pointWriter = pointWriter;
+        this.userLockManager = userLockManager;
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command) throws Exception {
+        return userLockManager.executeWithLock(command.userId(), () -> {
+            UserPoint current = userPointStore.selectById(command.userId());
+            UserPoint updated = command.applyTo(current);
+
+            return pointWriter.write(command, current, updated);
+        });
+    }
+
+    /**
+     * 잔액을 long 으로만 계산하므로 명령과 중간 UserPoint 를 만들지 않습니다.
+     */
+    @Override
+    public UserPoint execute(Long userId, TransactionType type, long amount) throws Exception {
+        return userLockManager.executeWithLock(userId, () -> {
+            long current = userPointStore.selectById(userId).point();
+            long updated = PointCommand.applyTo(type, current, amount);
+
+            return pointWriter.write(userId, type, amount, current, updated);
+        });
+    }
+}
@@ -0,0 +1,213 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.support.PointExecutors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자별 메일박스에 명령을 쌓아두고 한 번에 하나의 스레드만 비우도록 합니다.
+ * 쌓여 있는 명령들은 한 번 조회한 잔액에 도착 순서대로 적용한 뒤 최종 잔액을 한 번만 저장하므로,
+ * 요청이 몰린 사용자일수록 잔액 테이블 왕복 횟수가 줄어듭니다.
+ * maxWait 안에 처리가 시작되지 않은 명령은 메일박스에서 빠지고 USER_LOCK_TIMEOUT(429) 으로 거절됩니다. (0 이면 제한 없음)
+ * 최종 잔액을 먼저 저장한 뒤 명령별 내역을 남기며, 내역 저장이 중간에 실패하면 그 명령부터 실패로 처리하고 잔액을 되돌립니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "point.engine", havingValue = "mailbox")
+public class MailboxPointEngine implements PointEngine, AutoCloseable {
+
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final ExecutorService drainExecutor;
+    // 맵에 존재하는 메일박스는 항상 비우는 작업이 예약되어 있거나 실행 중입니다.
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final LongAdder rejections = new LongAdder();
+
+    public MailboxPointEngine(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, int threads) {
+        this(userPointStore, pointHistoryStore, threads, false, Duration.ZERO);
+    }
+
+    @Autowired
+    public MailboxPointEngine(
+            UserPointStore userPointStore,
+            PointHistoryStore pointHistoryStore,
+            @Value("${point.mailbox.threads:16}") int threads,
+            @Value("${point.executor.virtual-threads:false}") boolean virtualThreads,
+            @Value("${point.lock.max-wait:2s}") Duration maxWait
+    ) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.drainExecutor = PointExecutors.newExecutor("point-mailbox", threads, virtualThreads);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command) throws Exception {
+        PendingCommand pending = enqueue(command);
+        try {
+            if (maxWaitNanos <= 0) {
+                return pending.result.get();
+            }
+            try {
+                return pending.result.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (pending.claimed.compareAndSet(false, true)) {
+                    rejections.increment();
+                    throw new PointException(ErrorCode.USER_LOCK_TIMEOUT);
+                }
+                // 이미 처리 중인 명령은 결과를 기다립니다.
+                return pending.result.get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    public CompletableFuture<UserPoint> submit(PointCommand command) {
+        return enqueue(command).result;
+    }
+
+    /**
+     * 대기 시간을 넘겨 거절된 명령 수입니다.
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    private PendingCommand enqueue(PointCommand command) {
+        PendingCommand pending = new PendingCommand(command, new CompletableFuture<>(), new AtomicBoolean());
+        mailboxes.compute(command.userId(), (userId, mailbox) -> {
+            Mailbox target = mailbox;
+            if (target == null) {
+                target = new Mailbox(userId);
+                schedule(target);
+            }
+            target.queue.add(pending);
+            return target;
+        });
+        return pending;
+    }
+
+    @Override
+    public void close() {
+        drainExecutor.shutdown();
+    }
+
+    private void schedule(Mailbox mailbox) {
+        drainExecutor.execute(() -> drain(mailbox));
+    }
+
+    private void drain(Mailbox mailbox) {
+        List<PendingCommand> batch = new ArrayList<>();
+        for (PendingCommand pending; (pending = mailbox.queue.poll()) != null; ) {
+            if (pending.claimed.compareAndSet(false, true)) {
+                batch.add(pending);
+            }
+        }
+        if (!batch.isEmpty()) {
+            apply(mailbox.userId, batch);
+        }
+
+        mailboxes.compute(mailbox.userId, (userId, current) -> {
+            if (mailbox.queue.isEmpty()) {
+                return null;
+            }
+            schedule(mailbox);
+            return mailbox;
+        });
+    }
+
+    private void apply(Long userId, List<PendingCommand> batch) {
+        List<PendingCommand> applied = new ArrayList<>(batch.size());
+        List<UserPoint> results = new ArrayList<>(batch.size());
+        UserPoint initial;
+        try {
+            initial = userPointStore.selectById(userId);
+            UserPoint current = initial;
+            for (PendingCommand pending : batch) {
+                try {
+                    UserPoint next = pending.command.applyTo(current);
+                    applied.add(pending);
+                    results.add(next);
+                    current = next;
+                } catch (Exception e) {
+                    pending.result.completeExceptionally(e);
+                }
+            }
+
+            if (applied.isEmpty()) {
+                return;
+            }
+            // 잔액을 먼저 저장해, 저장에 실패하면 내역과 저널에 아무것도 남지 않도록 합니다.
+            UserPoint saved = userPointStore.insertOrUpdate(userId, current.point());
+            results.set(results.size() - 1, saved);
+        } catch (Exception e) {
+            batch.forEach(pending -> pending.result.completeExceptionally(e));
+            return;
+        }
+
+        int recorded = 0;
+        try {
+            for (; recorded < applied.size(); recorded++) {
+                PointCommand command = applied.get(recorded).command;
+                pointHistoryStore.insert(userId, command.amount(), command.type(), System.currentTimeMillis());
+            }
+        } catch (Exception e) {
+            rollback(userId, recorded == 0 ? initial : results.get(recorded - 1), e);
+            for (int i = recorded; i < applied.size(); i++) {
+                applied.get(i).result.completeExceptionally(e);
+            }
+        }
+        for (int i = 0; i < recorded; i++) {
+            applied.get(i).result.complete(results.get(i));
+        }
+    }
+
+    /**
+     * 내역을 남기지 못한 명령부터는 실패로 처리하므로, 잔액을 마지막으로 내역을 남긴 명령의 결과로 되돌립니다.
+     */
+    private void rollback(Long userId, UserPoint recordedPoint, Exception cause) {
+        log.warn("포인트 내역 저장 실패로 잔액을 되돌립니다. userId={}, point={}", userId, recordedPoint.point());
+        try {
+            userPointStore.insertOrUpdate(userId, recordedPoint.point());
+        } catch (Exception e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private record PendingCommand(PointCommand command, CompletableFuture<UserPoint> result, AtomicBoolean claimed) {
+    }
+
+    private static final class Mailbox {
+        private final Long userId;
+        private final Queue<PendingCommand> queue = new ConcurrentLinkedQueue<>();
+
+        private Mailbox(Long userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.VersionedUserPoint;
+import io.hhplus.tdd.point.database.VersionedUserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 잔액을 버전과 함께 읽어 새 잔액을 계산하고, 그동안 버전이 바뀌지 않았을 때만 저장합니다.
+ * 충돌하면 지수 백오프(jitter 포함) 후 다시 시도하고, maxAttempts 번 모두 충돌하면 POINT_UPDATE_CONFLICT(409) 로 거절합니다.
+ * 락 레지스트리나 대기열을 거치지 않으므로 사용자당 경합은 적고 사용자 수가 많을 때 유리합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "point.engine", havingValue = "optimistic")
+public class OptimisticPointEngine implements PointEngine {
+
+    private final VersionedUserPointStore versionedUserPointStore;
+    private final PointWriter pointWriter;
+    private final int maxAttempts;
+    private final long minBackoffNanos;
+    private final long maxBackoffNanos;
+    private final LongAdder committed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+
+    public OptimisticPointEngine(VersionedUserPointStore versionedUserPointStore, PointWriter pointWriter) {
+        this(versionedUserPointStore, pointWriter, 10, Duration.ofMillis(1), Duration.ofMillis(100));
+    }
+
+    @Autowired
+    public OptimisticPointEngine(
+            VersionedUserPointStore versionedUserPointStore,
+            PointWriter pointWriter,
+            @Value("${point.optimistic.max-attempts:10}") int maxAttempts,
+            @Value("${point.optimistic.min-backoff:1ms}") Duration minBackoff,
+            @Value("${point.optimistic.max-backoff:100ms}") Duration maxBackoff
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        this.versionedUserPointStore = versionedUserPointStore;
+        this.pointWriter = pointWriter;
+        this.maxAttempts = maxAttempts;
+        this.minBackoffNanos = Math.max(1L, minBackoff.toNanos());
+        this.maxBackoffNanos = Math.max(this.minBackoffNanos, maxBackoff.toNanos());
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command) throws Exception {
+        versionedUserPointStore.acquire(command.userId());
+        try {
+            return executeAcquired(command);
+        } finally {
+            versionedUserPointStore.release(command.userId());
+        }
+    }
+
+    public OptimisticStats stats() {
+        return new OptimisticStats(committed.sum(), retried.sum(), conflicts.sum());
+    }
+
+    private UserPoint executeAcquired(PointCommand command) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            VersionedUserPoint current = versionedUserPointStore.read(command.userId());
+            if (!current.writing()) {
+                UserPoint updated = command.applyTo(current.userPoint());
+                VersionedUserPoint claimed = versionedUserPointStore.tryClaim(current);
+                if (claimed != null) {
+                    return commit(command, claimed, updated);
+                }
+            }
+            if (attempt >= maxAttempts) {
+                conflicts.increment();
+                throw new PointException(ErrorCode.POINT_UPDATE_CONFLICT);
+            }
+            retried.increment();
+            backoff(attempt);
+        }
+    }
+
+    private UserPoint commit(PointCommand command, VersionedUserPoint claimed, UserPoint updated) throws Exception {
+        UserPoint saved;
+        try {
+            saved = pointWriter.write(command, claimed.userPoint(), updated);
+        } catch (Exception e) {
+            versionedUserPointStore.rollback(claimed);
+            throw e;
+        }
+        versionedUserPointStore.publish(claimed, saved);
+        committed.increment();
+        return saved;
+    }
+
+    private void backoff(int attempt) throws InterruptedException {
+        long ceiling = Math.min(maxBackoffNanos, minBackoffNanos << Math.min(attempt - 1, 20));
+        TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    }
+
+    /**
+     * @param committed 저장에 성공한 명령 수
+     * @param retried   충돌로 다시 시도한 횟수
+     * @param conflicts 재시도를 모두 써서 409 로 거절된 명령 수
+     */
+    public record OptimisticStats(
+            long committed,
+            long retried,
+            long conflicts
+    ) {
+
+        public double conflictRate() {
+            long attempts = committed + conflicts;
+            return attempts == 0 ? 0.0 : (double) conflicts / attempts;
+        }
+    }
+}
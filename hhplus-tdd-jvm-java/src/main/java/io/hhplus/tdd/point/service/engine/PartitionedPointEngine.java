@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.support.PointExecutors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사용자 id 해시로 명령을 N 개의 단일 스레드 실행기 중 하나에 배정합니다.
+ * 같은 사용자의 명령은 항상 같은 실행기에서 도착 순서대로 처리되므로 락 없이 순차 처리가 보장되고,
+ * 호출한 스레드는 결과 Future 를 기다립니다.
+ * maxWait 안에 처리가 시작되지 않은 명령은 건너뛰고 USER_LOCK_TIMEOUT(429) 으로 거절됩니다. (0 이면 제한 없음)
+ */
+@Component
+@ConditionalOnProperty(name = "point.engine", havingValue = "partitioned")
+public class PartitionedPointEngine implements PointEngine, AutoCloseable {
+
+    private final UserPointStore userPointStore;
+    private final PointWriter pointWriter;
+    private final ExecutorService[] partitions;
+    private final long maxWaitNanos;
+    private final LongAdder rejections = new LongAdder();
+
+    public PartitionedPointEngine(UserPointStore userPointStore, PointWriter pointWriter, int partitions) {
+        this(userPointStore, pointWriter, partitions, Duration.ZERO);
+    }
+
+    @Autowired
+    public PartitionedPointEngine(
+            UserPointStore userPointStore,
+            PointWriter pointWriter,
+            @Value("${point.partitioned.partitions:16}") int partitions,
+            @Value("${point.lock.max-wait:2s}") Duration maxWait
+    ) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be positive: " + partitions);
+        }
+        this.userPointStore = userPointStore;
+        this.pointWriter = pointWriter;
+        this.partitions = new ExecutorService[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = PointExecutors.newFixedThreadPool("point-partition-" + i, 1);
+        }
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public UserPoint execute(PointCommand command) throws Exception {
+        PendingCommand pending = enqueue(command);
+        try {
+            if (maxWaitNanos <= 0) {
+                return pending.result.get();
+            }
+            try {
+                return pending.result.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (pending.claimed.compareAndSet(false, true)) {
+                    rejections.increment();
+                    throw new PointException(ErrorCode.USER_LOCK_TIMEOUT);
+                }
+                // 이미 처리 중인 명령은 결과를 기다립니다.
+                return pending.result.get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    public CompletableFuture<UserPoint> submit(PointCommand command) {
+        return enqueue(command).result;
+    }
+
+    /**
+     * 대기 시간을 넘겨 거절된 명령 수입니다.
+     */
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    public int partitions() {
+        return partitions.length;
+    }
+
+    int partitionOf(Long userId) {
+        return Math.floorMod(Long.hashCode(userId), partitions.length);
+    }
+
+    @Override
+    public void close() {
+        for (ExecutorService partition : partitions) {
+            partition.shutdown();
+        }
+    }
+
+    private PendingCommand enqueue(PointCommand command) {
+        PendingCommand pending = new PendingCommand(command, new CompletableFuture<>(), new AtomicBoolean());
+        partitions[partitionOf(command.userId())].execute(() -> apply(pending));
+        return pending;
+    }
+
+    private void apply(PendingCommand pending) {
+        if (!pending.claimed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            PointCommand command = pending.command;
+            UserPoint current = userPointStore.selectById(command.userId());
+            UserPoint updated = command.applyTo(current);
+            pending.result.complete(pointWriter.write(command, current, updated));
+        } catch (Exception e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private record PendingCommand(PointCommand command, CompletableFuture<UserPoint> result, AtomicBoolean claimed) {
+    }
+}
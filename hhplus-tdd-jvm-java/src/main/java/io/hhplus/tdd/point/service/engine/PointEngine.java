@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+/**
+ * 포인트 충전/사용 명령을 같은 사용자 기준으로 순차 처리합니다.
+ * 구현체는 {@code point.engine} 설정으로 선택합니다.
+ */
+public interface PointEngine {
+
+    UserPoint execute(PointCommand command) throws Exception;
+
+    /**
+     * PointCommand 를 만들지 않는 원시 타입 경로입니다.
+     * 대기열에 명령을 담아야 하는 구현체는 기본 구현처럼 PointCommand 로 감싸 처리합니다.
+     */
+    default UserPoint execute(Long userId, TransactionType type, long amount) throws Exception {
+        return execute(new PointCommand(userId, type, amount));
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.support.PointExecutors;
+import io.hhplus.tdd.point.support.WaitDeadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 명령의 결과를 포인트 내역과 잔액 테이블에 기록합니다.
+ * PARALLEL 모드에서는 두 쓰기를 동시에 요청해 지연 시간이 두 쓰기의 합이 아닌 더 느린 쪽에 가까워지며,
+ * 한쪽만 실패하면 보상 내역(CHARGE_CANCEL/USE_CANCEL)을 남기거나 잔액을 되돌립니다.
+ * SEQUENTIAL 모드도 내역을 남긴 뒤 잔액 저장이 실패하면(테이블 잠금 대기 초과 등) 보상 내역을 남깁니다.
+ * 보상 쓰기는 이미 일부를 기록한 요청을 마무리하는 것이므로 잠금 대기 마감 시각(WaitDeadline) 없이 실행합니다.
+ */
+@Slf4j
+@Component
+public class PointWriter implements AutoCloseable {
+
+    public enum WriteMode {
+        SEQUENTIAL,
+        PARALLEL
+    }
+
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final WriteMode writeMode;
+    private final ExecutorService writeExecutor;
+
+    public PointWriter(UserPointStore userPointStore, PointHistoryStore pointHistoryStore) {
+        this(userPointStore, pointHistoryStore, WriteMode.SEQUENTIAL, 0);
+    }
+
+    public PointWriter(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, WriteMode writeMode, int threads) {
+        this(userPointStore, pointHistoryStore, writeMode, threads, false);
+    }
+
+    @Autowired
+    public PointWriter(
+            UserPointStore userPointStore,
+            PointHistoryStore pointHistoryStore,
+            @Value("${point.write.mode:sequential}") WriteMode writeMode,
+            @Value("${point.write.threads:16}") int threads,
+            @Value("${point.executor.virtual-threads:false}") boolean virtualThreads
+    ) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.writeMode = writeMode;
+        this.writeExecutor = writeMode == WriteMode.PARALLEL ? PointExecutors.newExecutor("point-write", threads, virtualThreads) : null;
+    }
+
+    /**
+     * 같은 사용자의 임계 영역 안에서 호출되어야 합니다.
+     *
+     * @param current 명령을 적용하기 전 잔액 (보상 시 되돌릴 값)
+     * @param updated 명령을 적용한 후 잔액
+     */
+    public UserPoint write(PointCommand command, UserPoint current, UserPoint updated) throws Exception {
+        if (writeMode == WriteMode.SEQUENTIAL) {
+            return write(command.userId(), command.type(), command.amount(), current.point(), updated.point());
+        }
+
+        CompletableFuture<PointHistory> history = CompletableFuture.supplyAsync(() -> insertHistory(command), writeExecutor);
+        UserPoint saved;
+        try {
+            saved = userPointStore.insertOrUpdate(updated.id(), updated.point());
+        } catch (Exception e) {
+            compensateHistory(command, history);
+            throw e;
+        }
+
+        try {
+            history.join();
+        } catch (CompletionException e) {
+            log.warn("포인트 내역 저장 실패로 잔액을 되돌립니다. userId={}, point={}", current.id(), current.point());
+            Long deadline = WaitDeadline.clear();
+            try {
+                userPointStore.insertOrUpdate(current.id(), current.point());
+            } finally {
+                WaitDeadline.restore(deadline);
+            }
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        return saved;
+    }
+
+    /**
+     * 잔액을 long 으로 받는 write 입니다. SEQUENTIAL 모드에서는 테이블 API 가 요구하는 박싱 외에 객체를 만들지 않습니다.
+     */
+    public UserPoint write(Long userId, TransactionType type, long amount, long currentPoint, long updatedPoint) throws Exception {
+        if (writeMode == WriteMode.SEQUENTIAL) {
+            pointHistoryStore.insert(userId, amount, type, System.currentTimeMillis());
+            try {
+                return userPointStore.insertOrUpdate(userId, updatedPoint);
+            } catch (Exception e) {
+                log.warn("잔액 저장 실패로 보상 내역을 남깁니다. userId={}, type={}, amount={}", userId, type, amount);
+                insertCancelHistory(userId, type, amount);
+                throw e;
+            }
+        }
+        return write(new PointCommand(userId, type, amount), UserPoint.of(userId, currentPoint), UserPoint.of(userId, updatedPoint));
+    }
+
+    @Override
+    public void close() {
+        if (writeExecutor != null) {
+            writeExecutor.shutdown();
+        }
+    }
+
+    private void compensateHistory(PointCommand command, CompletableFuture<PointHistory> history) throws InterruptedException {
+        try {
+            history.join();
+        } catch (CompletionException e) {
+            // 내역도 저장되지 않았으므로 되돌릴 것이 없습니다.
+            return;
+        }
+        log.warn("잔액 저장 실패로 보상 내역을 남깁니다. userId={}, type={}, amount={}", command.userId(), command.type(), command.amount());
+        insertCancelHistory(command.userId(), command.type(), command.amount());
+    }
+
+    private void insertCancelHistory(Long userId, TransactionType type, long amount) throws InterruptedException {
+        Long deadline = WaitDeadline.clear();
+        try {
+            pointHistoryStore.insert(userId, amount, cancel(type), System.currentTimeMillis());
+        } finally {
+            WaitDeadline.restore(deadline);
+        }
+    }
+
+    private PointHistory insertHistory(PointCommand command) {
+        try {
+            return pointHistoryStore.insert(command.userId(), command.amount(), command.type(), System.currentTimeMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    // 반대 유형이 아닌 취소 유형으로 남겨, 누적/일자별 합계에서 실패한 명령이 충전과 사용으로 두 번 집계되지 않도록 합니다.
+    private static TransactionType cancel(TransactionType type) {
+        return type == TransactionType.CHARGE ? TransactionType.CHARGE_CANCEL : TransactionType.USE_CANCEL;
+    }
+}
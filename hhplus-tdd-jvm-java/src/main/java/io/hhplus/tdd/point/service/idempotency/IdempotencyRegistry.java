@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point.service.idempotency;
+
+import io.hhplus.tdd.point.cache.CacheStats;
+import io.hhplus.tdd.point.cache.LruCache;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 별 처리 결과를 보관했다가, 같은 키로 재시도된 요청에는 다시 실행하지 않고 저장된 결과를 돌려줍니다.
+ * 아직 처리 중인 키로 요청이 오면 먼저 들어온 요청의 결과를 최대 point.idempotency.max-wait 만큼 기다리고, 그 안에 끝나지 않으면 409 로 거절합니다.
+ * 처리 중인 요청은 LRU 캐시 밖(inFlight)에 두었다가 성공한 뒤에 캐시로 옮기므로, 처리 중에 밀려나 같은 키의 재시도가 다시 실행되는 일이 없습니다.
+ * 캐시의 적중/미스는 끝난 결과를 찾은 경우만 집계됩니다.
+ * 실패한 요청은 보관하지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ */
+@Component
+public class IdempotencyRegistry {
+
+    private final LruCache<String, IdempotentResult> results;
+    // 처리 중인 요청입니다. results 와 함께 자기 자신을 잠가 다룹니다.
+    private final Map<String, IdempotentResult> inFlight = new HashMap<>();
+    private final long maxWaitNanos;
+
+    public IdempotencyRegistry() {
+        this(100_000, Duration.ofMinutes(10));
+    }
+
+    public IdempotencyRegistry(int maximumSize, Duration ttl) {
+        this(maximumSize, ttl, Duration.ofSeconds(2));
+    }
+
+    @Autowired
+    public IdempotencyRegistry(
+            @Value("${point.idempotency.maximum-size:100000}") int maximumSize,
+            @Value("${point.idempotency.ttl:10m}") Duration ttl,
+            @Value("${point.idempotency.max-wait:2s}") Duration maxWait
+    ) {
+        this.results = new LruCache<>(maximumSize, ttl);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public UserPoint execute(String idempotencyKey, PointCommand command, PointTask task) throws Exception {
+        String key = command.userId() + ":" + idempotencyKey;
+        IdempotentResult result = new IdempotentResult(command, new CompletableFuture<>());
+        IdempotentResult existing = claim(key, result);
+        if (existing != null) {
+            return replay(existing, command);
+        }
+
+        try {
+            UserPoint userPoint = task.execute();
+            synchronized (inFlight) {
+                results.put(key, result);
+                inFlight.remove(key);
+            }
+            result.userPoint.complete(userPoint);
+            return userPoint;
+        } catch (Exception e) {
+            synchronized (inFlight) {
+                inFlight.remove(key);
+            }
+            result.userPoint.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 처리 중이거나 이미 끝난 같은 키의 결과가 있으면 그 결과를, 없으면 result 를 처리 중으로 등록하고 null 을 반환합니다.
+     */
+    private IdempotentResult claim(String key, IdempotentResult result) {
+        synchronized (inFlight) {
+            IdempotentResult running = inFlight.get(key);
+            if (running != null) {
+                return running;
+            }
+            IdempotentResult completed = results.get(key);
+            if (completed != null) {
+                return completed;
+            }
+            inFlight.put(key, result);
+            return null;
+        }
+    }
+
+    public CacheStats stats() {
+        return results.stats();
+    }
+
+    private UserPoint replay(IdempotentResult existing, PointCommand command) throws Exception {
+        if (!existing.command.equals(command)) {
+            throw new PointException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        try {
+            return maxWaitNanos > 0 ? existing.userPoint.get(maxWaitNanos, TimeUnit.NANOSECONDS) : existing.userPoint.get();
+        } catch (TimeoutException e) {
+            throw new PointException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface PointTask {
+        UserPoint execute() throws Exception;
+    }
+
+    private record IdempotentResult(PointCommand command, CompletableFuture<UserPoint> userPoint) {
+    }
+}
@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point.service.lock;
+
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import io.hhplus.tdd.point.support.LatencyHistogram;
+import io.hhplus.tdd.point.support.WaitDeadline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 단위로 임계 영역을 제공합니다.
+ * 같은 사용자의 요청은 도착 순서대로(공정 락) 처리되고, 서로 다른 사용자의 요청은 병렬로 처리됩니다.
+ * 락은 보유하거나 대기 중인 스레드가 없어지는 즉시 제거되므로 레지스트리 크기는 처리 중인 사용자 수로 제한됩니다.
+ * maxWait 안에 락을 얻지 못한 요청은 계속 줄을 서는 대신 USER_LOCK_TIMEOUT(429) 으로 거절됩니다. (0 이면 제한 없음)
+ * 같은 마감 시각을 작업 동안 WaitDeadline 에 기록하므로, 작업 안에서 기다리는 테이블 잠금도 남은 시간만 기다립니다.
+ */
+@Component
+public class UserLockManager {
+
+    private static final int MAX_HISTOGRAM_MILLIS = 10_000;
+
+    private final ConcurrentHashMap<Long, UserLock> locks = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final LatencyHistogram waitHistogram = new LatencyHistogram(MAX_HISTOGRAM_MILLIS);
+    private final LongAdder rejections = new LongAdder();
+    private final PointMetrics pointMetrics;
+
+    public UserLockManager() {
+        this(Duration.ZERO);
+    }
+
+    public UserLockManager(Duration maxWait) {
+        this(maxWait, PointMetrics.noop());
+    }
+
+    @Autowired
+    public UserLockManager(@Value("${point.lock.max-wait:2s}") Duration maxWait, PointMetrics pointMetrics) {
+        this.maxWaitNanos = maxWait.toNanos();
+        this.pointMetrics = pointMetrics;
+    }
+
+    public <T> T executeWithLock(Long userId, LockedTask<T> task) throws Exception {
+        long startedAt = System.nanoTime();
+        UserLock userLock = acquire(userId);
+        try {
+            lock(userLock, startedAt);
+        } catch (Exception e) {
+            release(userId);
+            throw e;
+        }
+        Long previousDeadline = maxWaitNanos <= 0 ? null : WaitDeadline.set(startedAt + maxWaitNanos);
+        try {
+            return task.execute();
+        } finally {
+            if (maxWaitNanos > 0) {
+                WaitDeadline.restore(previousDeadline);
+            }
+            userLock.lock.unlock();
+            release(userId);
+        }
+    }
+
+    public int activeLocks() {
+        return locks.size();
+    }
+
+    public long rejections() {
+        return rejections.sum();
+    }
+
+    public LockStats stats() {
+        return new LockStats(
+                waitHistogram.count(),
+                rejections.sum(),
+                waitHistogram.meanMillis(),
+                waitHistogram.percentileMillis(50),
+                waitHistogram.percentileMillis(99)
+        );
+    }
+
+    private void lock(UserLock userLock, long startedAt) throws InterruptedException {
+        if (maxWaitNanos <= 0) {
+            userLock.lock.lockInterruptibly();
+        } else if (!userLock.lock.tryLock(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+            rejections.increment();
+            throw new PointException(ErrorCode.USER_LOCK_TIMEOUT);
+        }
+        long waitedNanos = System.nanoTime() - startedAt;
+        waitHistogram.record(waitedNanos);
+        pointMetrics.recordLockWait(waitedNanos);
+    }
+
+    private UserLock acquire(Long userId) {
+        return locks.compute(userId, (id, userLock) -> {
+            UserLock acquired = userLock == null ? new UserLock() : userLock;
+            acquired.holders++;
+            return acquired;
+        });
+    }
+
+    private void release(Long userId) {
+        locks.computeIfPresent(userId, (id, userLock) -> --userLock.holders == 0 ? null : userLock);
+    }
+
+    @FunctionalInterface
+    public interface LockedTask<T> {
+        T execute() throws Exception;
+    }
+
+    /**
+     * @param acquired 락을 얻은 횟수 (대기 시간 분포의 표본 수)
+     * @param rejected 대기 시간을 넘겨 거절된 횟수
+     */
+    public record LockStats(
+            long acquired,
+            long rejected,
+            double meanWaitMillis,
+            long p50WaitMillis,
+            long p99WaitMillis
+    ) {
+
+        public double rejectionRate() {
+            long attempts = acquired + rejected;
+            return attempts == 0 ? 0.0 : (double) rejected / attempts;
+        }
+    }
+
+    private static final class UserLock {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        // compute 블록 안에서만 변경됩니다.
+        private int holders;
+    }
+}
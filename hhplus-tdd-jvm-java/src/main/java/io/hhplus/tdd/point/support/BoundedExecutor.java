@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.support;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 동시에 실행되는 작업 수와 실행을 기다리는 작업 수가 모두 정해진 실행기입니다.
+ * 둘 다 가득 차면 execute 가 RejectedExecutionException 을 던집니다.
+ */
+public interface BoundedExecutor extends Executor {
+
+    /**
+     * 실행 중인 작업 수입니다.
+     */
+    int active();
+
+    /**
+     * 실행을 기다리는 작업 수입니다.
+     */
+    int queued();
+
+    void shutdown();
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 1ms 단위 버킷으로 지연 시간 분포를 집계합니다.
+ * 최대 범위를 넘는 값은 마지막 버킷에 함께 집계됩니다.
+ */
+public class LatencyHistogram {
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+
+    public LatencyHistogram(int maxMillis) {
+        this.buckets = new AtomicLongArray(maxMillis + 1);
+    }
+
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(Math.max(0L, nanos));
+        buckets.incrementAndGet((int) Math.min(millis, buckets.length() - 1));
+        count.increment();
+        totalMillis.add(millis);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public double meanMillis() {
+        long samples = count();
+        return samples == 0 ? 0.0 : (double) totalMillis.sum() / samples;
+    }
+
+    /**
+     * @param percentile 0 ~ 100 사이의 백분위
+     * @return 해당 백분위의 지연 시간(ms), 기록이 없으면 0
+     */
+    public long percentileMillis(double percentile) {
+        long samples = count();
+        if (samples == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(samples * percentile / 100.0);
+        long seen = 0;
+        for (int millis = 0; millis < buckets.length(); millis++) {
+            seen += buckets.get(millis);
+            if (seen >= rank) {
+                return millis;
+            }
+        }
+        return buckets.length() - 1;
+    }
+}
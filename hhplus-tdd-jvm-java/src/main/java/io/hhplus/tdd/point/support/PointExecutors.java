@@ -0,0 +1,141 @@
+package io.hhplus.tdd.point.support;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 모듈 내부 작업용 실행기를 생성합니다.
+ * 가상 스레드를 사용하는 경우 스레드 수 제한 없이 작업마다 가상 스레드를 생성합니다.
+ */
+public final class PointExecutors {
+
+    private PointExecutors() {
+    }
+
+    public static ExecutorService newFixedThreadPool(String name, int threads) {
+        return Executors.newFixedThreadPool(threads, threadFactory(name));
+    }
+
+    public static ExecutorService newExecutor(String name, int threads, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+        }
+        return newFixedThreadPool(name, threads);
+    }
+
+    /**
+     * 동시에 실행되는 작업 수가 threads, 실행을 기다리는 작업 수가 queueCapacity 로 정해진 실행기입니다.
+     * 플랫폼 스레드는 threads 개를 풀로 두고 대기열에 작업을 쌓습니다.
+     * 가상 스레드는 풀로 두지 않고 작업마다 만들며, 동시 실행 수는 세마포어로 제한하고 나머지 가상 스레드는 세마포어에서 기다립니다.
+     */
+    public static BoundedExecutor newBoundedExecutor(String name, int threads, int queueCapacity, boolean virtualThreads) {
+        if (virtualThreads) {
+            return new SemaphoreBoundedExecutor(name, threads, queueCapacity);
+        }
+        return new PooledBoundedExecutor(
+                new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), threadFactory(name)));
+    }
+
+    public static ScheduledExecutorService newSingleThreadScheduledExecutor(String name) {
+        return Executors.newSingleThreadScheduledExecutor(threadFactory(name));
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PooledBoundedExecutor(ThreadPoolExecutor executor) implements BoundedExecutor {
+
+        @Override
+        public void execute(Runnable task) {
+            executor.execute(task);
+        }
+
+        @Override
+        public int active() {
+            return executor.getActiveCount();
+        }
+
+        @Override
+        public int queued() {
+            return executor.getQueue().size();
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * admitted 는 실행 중이거나 기다리는 작업 수(threads + queueCapacity)를, running 은 동시에 실행되는 작업 수(threads)를 제한합니다.
+     */
+    private static final class SemaphoreBoundedExecutor implements BoundedExecutor {
+
+        private final ExecutorService executor;
+        private final int threads;
+        private final int capacity;
+        private final Semaphore admitted;
+        private final Semaphore running;
+
+        private SemaphoreBoundedExecutor(String name, int threads, int queueCapacity) {
+            this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+            this.threads = threads;
+            this.capacity = threads + queueCapacity;
+            this.admitted = new Semaphore(capacity);
+            this.running = new Semaphore(threads);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!admitted.tryAcquire()) {
+                throw new RejectedExecutionException("bounded executor is full");
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        running.acquireUninterruptibly();
+                        try {
+                            task.run();
+                        } finally {
+                            running.release();
+                        }
+                    } finally {
+                        admitted.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                admitted.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public int active() {
+            return threads - running.availablePermits();
+        }
+
+        @Override
+        public int queued() {
+            return Math.max(0, capacity - admitted.availablePermits() - active());
+        }
+
+        @Override
+        public void shutdown() {
+            executor.shutdown();
+        }
+    }
+}
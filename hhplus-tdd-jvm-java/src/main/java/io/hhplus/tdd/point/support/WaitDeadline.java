@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.support;
+
+/**
+ * 요청이 잠금을 기다릴 수 있는 마감 시각(System.nanoTime 기준)을 현재 스레드에 기록합니다.
+ * 사용자 락을 얻은 뒤 이어서 기다리는 잠금(TableGuard)이 새로 대기 시간을 시작하지 않고 남은 시간만 기다리도록 합니다.
+ */
+public final class WaitDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
+
+    private WaitDeadline() {
+    }
+
+    /**
+     * 마감 시각을 기록하고 이전 값을 반환합니다. 작업이 끝나면 반환값으로 restore 합니다.
+     */
+    public static Long set(long deadlineNanos) {
+        Long previous = DEADLINE.get();
+        DEADLINE.set(deadlineNanos);
+        return previous;
+    }
+
+    /**
+     * 마감 시각을 지우고 이전 값을 반환합니다. 이미 일부를 쓴 요청의 보상 쓰기처럼 끝까지 기다려야 하는 호출에 사용합니다.
+     */
+    public static Long clear() {
+        Long previous = DEADLINE.get();
+        DEADLINE.remove();
+        return previous;
+    }
+
+    public static void restore(Long previous) {
+        if (previous == null) {
+            DEADLINE.remove();
+        } else {
+            DEADLINE.set(previous);
+        }
+    }
+
+    /**
+     * 마감 시각까지 남은 시간입니다. 이미 지났으면 0, 기록된 마감 시각이 없으면 -1 (제한 없음) 입니다.
+     */
+    public static long remainingNanos() {
+        Long deadline = DEADLINE.get();
+        if (deadline == null) {
+            return -1L;
+        }
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LruCacheTest {
+
+    @Test
+    public void 최대_크기를_넘으면_가장_오래_사용되지_않은_항목을_제거한다() {
+        // Given
+        LruCache<Long, String> cache = new LruCache<>(2, Duration.ZERO);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+
+        // When
+        cache.put(3L, "c");
+
+        // Then
+        assertThat(cache.get(1L)).isEqualTo("a");
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isEqualTo("c");
+        assertThat(cache.stats().evictions()).isEqualTo(1L);
+    }
+
+    @Test
+    public void 만료_시간이_지난_항목은_조회되지_않는다() throws InterruptedException {
+        // Given
+        LruCache<Long, String> cache = new LruCache<>(10, Duration.ofMillis(20));
+        cache.put(1L, "a");
+
+        // When
+        Thread.sleep(40);
+
+        // Then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void 적중률을_집계한다() {
+        // Given
+        LruCache<Long, String> cache = new LruCache<>(10, Duration.ZERO);
+        cache.put(1L, "a");
+
+        // When
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // Then
+        CacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(3L);
+        assertThat(stats.misses()).isEqualTo(1L);
+        assertThat(stats.hitRate()).isEqualTo(0.75);
+    }
+
+    @Test
+    public void putIfAbsent_는_적중률_집계에_넣지_않는다() {
+        // Given
+        LruCache<Long, String> cache = new LruCache<>(10, Duration.ZERO);
+
+        // When
+        String first = cache.putIfAbsent(1L, "a");
+        String second = cache.putIfAbsent(1L, "b");
+
+        // Then
+        assertThat(first).isNull();
+        assertThat(second).isEqualTo("a");
+        assertThat(cache.stats().hits()).isZero();
+        assertThat(cache.stats().misses()).isZero();
+    }
+}
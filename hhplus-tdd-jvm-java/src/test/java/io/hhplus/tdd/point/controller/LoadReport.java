@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.hhplus.tdd.point.support.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 시나리오 한 번의 결과입니다. JSON 으로 저장해 두고 다음 실행 결과와 비교(regressionsAgainst)합니다.
+ *
+ * @param scenario       시나리오 이름 (보고서 파일 이름)
+ * @param mode           closed-loop / open-loop
+ * @param latencyModel   테이블 지연 분포 설명
+ * @param concurrency    closed-loop 의 클라이언트 수 (open-loop 는 0)
+ * @param offeredRate    open-loop 의 초당 요청 수 (closed-loop 는 0)
+ * @param requests       측정 구간에 완료된 요청 수
+ * @param errors         측정 구간에 실패한 요청 수
+ * @param throughput     초당 완료된 요청 수
+ * @param p50Millis      지연 시간 50 백분위(ms)
+ * @param p95Millis      지연 시간 95 백분위(ms)
+ * @param p99Millis      지연 시간 99 백분위(ms)
+ * @param maxMillis      최대 지연 시간(ms)
+ */
+public record LoadReport(
+        String scenario,
+        String mode,
+        String latencyModel,
+        int concurrency,
+        double offeredRate,
+        long requests,
+        long errors,
+        double throughput,
+        long p50Millis,
+        long p95Millis,
+        long p99Millis,
+        long maxMillis
+) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static LoadReport of(String scenario, String mode, String latencyModel, int concurrency, double offeredRate,
+                         LatencyHistogram histogram, long errors, Duration measurement) {
+        return new LoadReport(
+                scenario,
+                mode,
+                latencyModel,
+                concurrency,
+                offeredRate,
+                histogram.count(),
+                errors,
+                histogram.count() / (measurement.toNanos() / 1_000_000_000.0),
+                histogram.percentileMillis(50),
+                histogram.percentileMillis(95),
+                histogram.percentileMillis(99),
+                histogram.percentileMillis(100)
+        );
+    }
+
+    public static LoadReport read(Path path) throws IOException {
+        return OBJECT_MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+
+    /**
+     * directory/{scenario}.json 에 저장하고 저장한 경로를 반환합니다.
+     */
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path path = directory.resolve(scenario + ".json");
+        OBJECT_MAPPER.writeValue(path.toFile(), this);
+        return path;
+    }
+
+    /**
+     * baseline 보다 처리량이 tolerance 비율 넘게 줄었거나, p50/p95/p99 가 tolerance 비율 넘게 늘었으면 그 내용을 반환합니다.
+     * 1ms 버킷으로 집계하므로 지연 시간은 1ms 까지의 차이를 허용합니다.
+     */
+    public List<String> regressionsAgainst(LoadReport baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        if (throughput < baseline.throughput * (1.0 - tolerance)) {
+            regressions.add(String.format("throughput %.1f -> %.1f req/s", baseline.throughput, throughput));
+        }
+        checkLatency(regressions, "p50", baseline.p50Millis, p50Millis, tolerance);
+        checkLatency(regressions, "p95", baseline.p95Millis, p95Millis, tolerance);
+        checkLatency(regressions, "p99", baseline.p99Millis, p99Millis, tolerance);
+        if (errors > baseline.errors) {
+            regressions.add(String.format("errors %d -> %d", baseline.errors, errors));
+        }
+        return regressions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[point load] %s %s model=%s requests=%d errors=%d throughput=%.1f req/s p50=%dms p95=%dms p99=%dms max=%dms",
+                scenario, mode, latencyModel, requests, errors, throughput, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+
+    private static void checkLatency(List<String> regressions, String name, long baselineMillis, long currentMillis, double tolerance) {
+        if (currentMillis > baselineMillis * (1.0 + tolerance) + 1) {
+            regressions.add(String.format("%s %dms -> %dms", name, baselineMillis, currentMillis));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 요청 2,000 개로 충전을 반복할 때 서버가 쓰는 스레드 수를 측정합니다.
+ * 컨트롤러가 CompletableFuture 를 반환하므로 서블릿 스레드는 요청을 비동기 실행기에 넘기고 바로 반납되고,
+ * 테이블 지연은 point-async 실행기 스레드만 기다립니다. 나머지 요청은 스레드 없이 실행기 대기열에 머뭅니다.
+ * ./gradlew loadTest 로 실행합니다.
+ */
+@Tag("load")
+public class PointControllerAsyncLoadTest {
+
+    private static final int CLIENTS = 2_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+    private static final long SAMPLE_INTERVAL_MILLIS = 100L;
+
+    @Test
+    @DisplayName("[부하 테스트] - 동시 요청 2,000 개를 요청 수보다 훨씬 적은 스레드로 처리한다")
+    void serveConcurrentRequestsWithFewThreads() throws Exception {
+        // Given
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .run("--server.port=0")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            PointAsyncService pointAsyncService = context.getBean(PointAsyncService.class);
+            ThreadUsage threadUsage = new ThreadUsage(pointAsyncService);
+
+            // When
+            ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+            sampler.scheduleAtFixedRate(threadUsage::sample, WARM_UP.toMillis(), SAMPLE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            long completed;
+            try {
+                completed = drive(port);
+            } finally {
+                sampler.shutdownNow();
+            }
+
+            // Then
+            System.out.printf("[point async load] clients=%d completed=%d servlet-threads=%d async-threads=%d platform-threads=%d in-flight=%d rejections=%d%n",
+                    CLIENTS, completed, threadUsage.servletThreads.get(), threadUsage.asyncThreads.get(), threadUsage.platformThreads.get(),
+                    threadUsage.inFlight.get(), pointAsyncService.rejections());
+            assertThat(completed).isPositive();
+            assertThat(pointAsyncService.rejections()).isZero();
+            assertThat(threadUsage.inFlight.get()).isGreaterThan(threadUsage.asyncThreads.get());
+            assertThat(threadUsage.platformThreads.get()).isLessThan(CLIENTS / 2);
+        }
+    }
+
+    // 클라이언트마다 서로 다른 사용자로 충전을 반복 요청합니다. 클라이언트는 가상 스레드라 서버 쪽 스레드 수에 섞이지 않습니다.
+    private long drive(int port) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long warmUpEndsAt = System.nanoTime() + WARM_UP.toNanos();
+        long endsAt = warmUpEndsAt + MEASUREMENT.toNanos();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + (i + 1) + "/charge"))
+                        .header("Content-Type", "application/json")
+                        .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"amount\" : 1}"))
+                        .build();
+                futures.add(clients.submit(() -> {
+                    while (System.nanoTime() < endsAt) {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (System.nanoTime() < warmUpEndsAt) {
+                            continue;
+                        }
+                        if (response.statusCode() == 200) {
+                            completed.increment();
+                        } else {
+                            failed.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(MEASUREMENT.plus(WARM_UP).toSeconds() + 30, TimeUnit.SECONDS);
+            }
+        }
+
+        System.out.printf("[point async load] port=%d completed=%d failed=%d%n", port, completed.sum(), failed.sum());
+        assertThat(failed.sum()).isZero();
+        return completed.sum();
+    }
+
+    /**
+     * 측정 구간 동안 서버 스레드 수와 비동기 실행기에 머문 요청 수의 최댓값을 기록합니다.
+     * Thread.getAllStackTraces() 는 플랫폼 스레드만 돌려주므로 가상 스레드인 클라이언트는 세지 않습니다.
+     */
+    private static final class ThreadUsage {
+
+        private final PointAsyncService pointAsyncService;
+        private final AtomicInteger servletThreads = new AtomicInteger();
+        private final AtomicInteger asyncThreads = new AtomicInteger();
+        private final AtomicInteger platformThreads = new AtomicInteger();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private ThreadUsage(PointAsyncService pointAsyncService) {
+            this.pointAsyncService = pointAsyncService;
+        }
+
+        private void sample() {
+            Set<Thread> threads = Thread.getAllStackTraces().keySet();
+            int servlet = 0;
+            int async = 0;
+            for (Thread thread : threads) {
+                if (thread.getName().startsWith("http-nio-")) {
+                    servlet++;
+                } else if (thread.getName().startsWith("point-async-")) {
+                    async++;
+                }
+            }
+            servletThreads.accumulateAndGet(servlet, Math::max);
+            asyncThreads.accumulateAndGet(async, Math::max);
+            platformThreads.accumulateAndGet(threads.size(), Math::max);
+            inFlight.accumulateAndGet(pointAsyncService.active() + pointAsyncService.queued(), Math::max);
+        }
+    }
+}
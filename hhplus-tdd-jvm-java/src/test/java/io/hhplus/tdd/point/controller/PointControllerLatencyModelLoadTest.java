@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.database.LatencyModel;
+import io.hhplus.tdd.point.database.ModeledLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.ModeledLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.dto.request.PointRequest;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.engine.LockingPointEngine;
+import io.hhplus.tdd.point.service.engine.PointEngine;
+import io.hhplus.tdd.point.service.engine.PointWriter;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테이블 지연을 정해진 분포(LatencyModel)로 바꾼 뒤 PointController 를 closed-loop / open-loop 로 호출해 p50/p95/p99 와 처리량을 측정합니다.
+ * HTTP/직렬화 비용이 결과를 흔들지 않도록 컨트롤러를 직접 호출합니다.
+ * 결과는 point.load.report-dir 에 시나리오별 JSON 으로 저장하고, point.load.baseline 에 이전 결과 디렉터리를 주면 그와 비교합니다.
+ * ./gradlew loadTest -Dpoint.load.baseline=<이전 보고서 디렉터리> 로 실행합니다.
+ */
+@Tag("load")
+public class PointControllerLatencyModelLoadTest {
+
+    private static final long SEED = 20_240_101L;
+    private static final int CLIENTS = 64;
+    private static final double REQUESTS_PER_SECOND = 500.0;
+    private static final int USERS = 1_000;
+    private static final int ASYNC_THREADS = 200;
+    private static final double TOLERANCE = 0.2;
+    private static final Duration WARM_UP = Duration.ofSeconds(2);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    private static Stream<Arguments> latencyModels() {
+        return Stream.of(
+                Arguments.of("fixed", LatencyModel.fixed(Duration.ofMillis(5))),
+                Arguments.of("normal", LatencyModel.normal(Duration.ofMillis(5), Duration.ofMillis(2), SEED)),
+                Arguments.of("long-tail", LatencyModel.longTail(Duration.ofMillis(3), Duration.ofMillis(60), SEED)),
+                Arguments.of("seeded-uniform", LatencyModel.uniform(Duration.ofMillis(10), SEED))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("latencyModels")
+    @DisplayName("[부하 테스트] - closed-loop 로 충전을 반복하고 지연 시간 보고서를 남긴다")
+    void closedLoop(String name, LatencyModel latencyModel) throws Exception {
+        // Given
+        PointController pointController = pointController(latencyModel);
+        PointLoadGenerator generator = new PointLoadGenerator(WARM_UP, MEASUREMENT);
+
+        // When
+        LoadReport report = generator.closedLoop("closed-loop-" + name, latencyModel.description(), CLIENTS,
+                (client, sequence) -> pointController.charge((long) client + 1, null, new PointRequest(1L)).get());
+
+        // Then
+        verify(report);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("latencyModels")
+    @DisplayName("[부하 테스트] - open-loop 로 충전을 보내고 지연 시간 보고서를 남긴다")
+    void openLoop(String name, LatencyModel latencyModel) throws Exception {
+        // Given
+        PointController pointController = pointController(latencyModel);
+        PointLoadGenerator generator = new PointLoadGenerator(WARM_UP, MEASUREMENT);
+
+        // When
+        LoadReport report = generator.openLoop("open-loop-" + name, latencyModel.description(), REQUESTS_PER_SECOND,
+                (client, sequence) -> pointController.charge(sequence % USERS + 1, null, new PointRequest(1L)).get());
+
+        // Then
+        verify(report);
+    }
+
+    private PointController pointController(LatencyModel latencyModel) {
+        UserPointStore userPointStore = new UserPointStore(new ModeledLatencyUserPointTable(latencyModel));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new ModeledLatencyPointHistoryTable(latencyModel));
+        PointEngine pointEngine = new LockingPointEngine(userPointStore, new PointWriter(userPointStore, pointHistoryStore), new UserLockManager());
+        PointService pointService = new PointService(userPointStore, pointHistoryStore, pointEngine, new IdempotencyRegistry());
+        return new PointController(pointService, new PointAsyncService(pointService, ASYNC_THREADS, 10_000), new PointBatchService(pointService, 1), new ObjectMapper());
+    }
+
+    private void verify(LoadReport report) throws Exception {
+        Path written = report.write(Path.of(System.getProperty("point.load.report-dir", "build/reports/point-load")));
+        System.out.println(report + " -> " + written);
+        assertThat(report.requests()).isPositive();
+        assertThat(report.errors()).isZero();
+
+        String baselineDirectory = System.getProperty("point.load.baseline");
+        if (baselineDirectory == null) {
+            return;
+        }
+        Path baseline = Path.of(baselineDirectory).resolve(report.scenario() + ".json");
+        if (Files.exists(baseline)) {
+            List<String> regressions = report.regressionsAgainst(LoadReport.read(baseline), TOLERANCE);
+            assertThat(regressions).as("regressions against %s", baseline).isEmpty();
+        }
+    }
+}
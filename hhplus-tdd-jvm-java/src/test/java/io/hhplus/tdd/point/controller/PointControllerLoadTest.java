@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 접속 1,000 명이 포인트를 충전할 때의 처리량을 플랫폼 스레드와 가상 스레드(virtual 프로필)로 비교합니다.
+ * 기본 구성의 테이블(ConcurrentUserPointTable/ConcurrentPointHistoryTable)은 사용자마다 병렬로 호출되므로,
+ * 처리량은 테이블 지연을 기다릴 수 있는 서버 쪽 동시 처리 수로 정해집니다.
+ * 플랫폼 스레드는 point.async.threads(200) 개까지, 가상 스레드는 클라이언트 수(1,000)까지 동시에 기다립니다.
+ * 결과는 point.load.report-dir 에 프로필별 JSON 보고서(LoadReport)로 남깁니다. ./gradlew loadTest 로 실행합니다.
+ */
+@Tag("load")
+public class PointControllerLoadTest {
+
+    private static final int CLIENTS = 1_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(15);
+    private static final String LATENCY_MODEL = "table-throttle-uniform-0-300ms";
+
+    @Test
+    @DisplayName("[부하 테스트] - 가상 스레드 프로필의 초당 처리량이 더 높다")
+    void compareThroughputWithVirtualThreads() throws Exception {
+        // When
+        LoadReport platform = measure("platform");
+        LoadReport virtual = measure("virtual", "virtual");
+
+        // Then
+        // 동시 처리 수가 5배 차이 나므로, CPU 가 적은 환경의 흔들림을 감안해도 1.5배 이상이어야 한다.
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput() * 1.5);
+    }
+
+    private LoadReport measure(String name, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .profiles(profiles)
+                .run("--server.port=0")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadReport report = drive("threads-" + name, port);
+            Path written = report.write(Path.of(System.getProperty("point.load.report-dir", "build/reports/point-load")));
+            System.out.println(report + " -> " + written);
+            return report;
+        }
+    }
+
+    // 클라이언트마다 서로 다른 사용자로 충전을 반복 요청해, 같은 사용자의 순차 처리가 아닌 서버 동시 처리 수만 병목이 되도록 합니다.
+    private LoadReport drive(String scenario, int port) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        PointLoadGenerator generator = new PointLoadGenerator(WARM_UP, MEASUREMENT);
+        return generator.closedLoop(scenario, LATENCY_MODEL, CLIENTS, (clientId, sequence) -> {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + (clientId + 1) + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"amount\" : 1}"))
+                    .build();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("unexpected status " + response.statusCode());
+            }
+        });
+    }
+}
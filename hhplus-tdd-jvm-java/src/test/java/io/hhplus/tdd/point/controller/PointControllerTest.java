@@ -1,7 +1,16 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
 import io.hhplus.tdd.point.domain.UserPoint;
-import io.hhplus.tdd.point.dto.request.PointRequest;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.dto.response.PointBatchResponse;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.service.PointAsyncService;
+import io.hhplus.tdd.point.service.PointBatchService;
 import io.hhplus.tdd.point.service.PointService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,12 +19,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -28,6 +46,12 @@ public class PointControllerTest {
     @MockBean
     private PointService pointService;
 
+    @MockBean
+    private PointAsyncService pointAsyncService;
+
+    @MockBean
+    private PointBatchService pointBatchService;
+
     public PointControllerTest(@Autowired MockMvc mvc) {
         this.mvc = mvc;
     }
@@ -38,15 +62,18 @@ public class PointControllerTest {
         // Given
         Long userId = 1L;
         Long amount = 0L;
-        given(pointService.checkPoint(userId)).willReturn(new UserPoint(userId, amount, 0L));
+        given(pointAsyncService.checkPoint(userId)).willReturn(CompletableFuture.completedFuture(new UserPoint(userId, amount, 0L)));
 
         // When
-        mvc.perform(get("/point/" + userId))
-                .andExpect(status().isOk())
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        MvcResult mvcResult = mvc.perform(get("/point/" + userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
 
         // Then
-        then(pointService).should().checkPoint(userId);
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        then(pointAsyncService).should().checkPoint(userId);
     }
 
     @DisplayName("[PATCH] - 포인트 충전")
@@ -55,18 +82,70 @@ public class PointControllerTest {
         // Given
         Long userId = 1L;
         Long amount = 500L;
-        PointRequest pointRequest = new PointRequest(amount);
 
-        given(pointService.chargePoint(pointRequest.toDto(userId, amount))).willReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
+        given(pointAsyncService.chargePoint(userId, amount, null))
+                .willReturn(CompletableFuture.completedFuture(new UserPoint(userId, amount, System.currentTimeMillis())));
 
         // When
-        mvc.perform(patch("/point/" + userId + "/charge")
+        MvcResult mvcResult = mvc.perform(patch("/point/" + userId + "/charge")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content("{\"amount\" : 500}")
-                    ).andExpect(status().isOk());
+                    ).andExpect(request().asyncStarted())
+                .andReturn();
 
         // Then
-        then(pointService).should().chargePoint(pointRequest.toDto(userId, amount));
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(500));
+        then(pointAsyncService).should().chargePoint(userId, amount, null);
+    }
+
+    @DisplayName("[PATCH] - Idempotency-Key 를 포함한 포인트 충전")
+    @Test
+    public void givenIdempotencyKey_whenRequesting_thenChargingPointWithKey() throws Exception {
+        // Given
+        Long userId = 1L;
+        Long amount = 500L;
+        String idempotencyKey = "charge-1";
+
+        given(pointAsyncService.chargePoint(userId, amount, idempotencyKey))
+                .willReturn(CompletableFuture.completedFuture(new UserPoint(userId, amount, System.currentTimeMillis())));
+
+        // When
+        MvcResult mvcResult = mvc.perform(patch("/point/" + userId + "/charge")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\" : 500}")
+                    ).andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(mvcResult)).andExpect(status().isOk());
+        then(pointAsyncService).should().chargePoint(userId, amount, idempotencyKey);
+    }
+
+    @DisplayName("[PATCH] - 같은 사용자 요청이 몰려 대기 시간을 넘기면 429 응답")
+    @Test
+    public void givenLockTimeout_whenRequesting_thenTooManyRequests() throws Exception {
+        // Given
+        Long userId = 1L;
+        Long amount = 500L;
+
+        given(pointAsyncService.chargePoint(userId, amount, null))
+                .willReturn(CompletableFuture.failedFuture(new PointException(ErrorCode.USER_LOCK_TIMEOUT)));
+
+        // When
+        MvcResult mvcResult = mvc.perform(patch("/point/" + userId + "/charge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\" : 500}")
+                    ).andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.code").value("429"));
+        then(pointAsyncService).should().chargePoint(userId, amount, null);
     }
 
     @Test
@@ -85,25 +164,173 @@ public class PointControllerTest {
         then(pointService).should().checkPointHistory(userId);
     }
 
+    @Test
+    @DisplayName("[GET] - 포인트 충전/이용 내역 기간/유형 조회")
+    void givenUserIdAndTimeRange_whenRequesting_thenPointHistoriesInRange() throws Exception {
+        // Given
+        Long userId = 1L;
+        given(pointService.checkPointHistory(userId, 1_000L, 2_000L, TransactionType.CHARGE)).willReturn(Collections.emptyList());
+
+        // When
+        mvc.perform(get("/point/" + userId + "/histories")
+                        .param("from", "1000")
+                        .param("to", "2000")
+                        .param("type", "CHARGE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isArray());
+
+        // Then
+        then(pointService).should().checkPointHistory(userId, 1_000L, 2_000L, TransactionType.CHARGE);
+    }
+
+    @Test
+    @DisplayName("[GET] - 포인트 충전/이용 내역 NDJSON 내보내기")
+    void givenUserId_whenExporting_thenStreamingNdjson() throws Exception {
+        // Given
+        Long userId = 1L;
+        willAnswer(invocation -> {
+            PointService.PointHistoryConsumer consumer = invocation.getArgument(1);
+            consumer.accept(new PointHistory(1L, userId, TransactionType.CHARGE, 100L, 10L));
+            consumer.accept(new PointHistory(2L, userId, TransactionType.USE, 50L, 20L));
+            return null;
+        }).given(pointService).exportPointHistory(eq(userId), any());
+
+        // When
+        MvcResult mvcResult = mvc.perform(get("/point/" + userId + "/histories/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"id\":1,\"userId\":1,\"type\":\"CHARGE\",\"amount\":100,\"timeMillis\":10}\n"
+                                + "{\"id\":2,\"userId\":1,\"type\":\"USE\",\"amount\":50,\"timeMillis\":20}\n"));
+    }
+
+    @Test
+    @DisplayName("[GET] - 포인트 누적/일자별 합계 조회")
+    void givenUserId_whenRequestingSummary_thenPointSummary() throws Exception {
+        // Given
+        Long userId = 1L;
+        given(pointService.checkPointSummary(userId, 7))
+                .willReturn(new PointSummary(userId, 1_000L, 300L, 2L, 1L, List.of()));
+
+        // When
+        mvc.perform(get("/point/" + userId + "/summary").param("days", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCharged").value(1_000))
+                .andExpect(jsonPath("$.useCount").value(1));
+
+        // Then
+        then(pointService).should().checkPointSummary(userId, 7);
+    }
+
+    @Test
+    @DisplayName("[GET] - 포인트 충전/이용 내역 커서 기반 조회")
+    void givenUserIdAndCursor_whenRequesting_thenPointHistoryPage() throws Exception {
+        // Given
+        Long userId = 1L;
+        given(pointService.checkPointHistory(userId, 10L, 20)).willReturn(new PointHistoryPage(List.of(), null));
+
+        // When
+        mvc.perform(get("/point/" + userId + "/histories")
+                        .param("cursor", "10")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories").isArray());
+
+        // Then
+        then(pointService).should().checkPointHistory(userId, 10L, 20);
+    }
+
+    @Test
+    @DisplayName("[GET] - 시각 범위와 유형을 함께 전달하면 조건에 맞는 내역만 페이지로 조회")
+    void givenFiltersAndLimit_whenRequesting_thenFilteredPointHistoryPage() throws Exception {
+        // Given
+        Long userId = 1L;
+        given(pointService.checkPointHistory(userId, null, 50, 1_000L, 2_000L, TransactionType.USE))
+                .willReturn(new PointHistoryPage(List.of(), null));
+
+        // When
+        mvc.perform(get("/point/" + userId + "/histories")
+                        .param("from", "1000")
+                        .param("to", "2000")
+                        .param("type", "USE")
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories").isArray());
+
+        // Then
+        then(pointService).should().checkPointHistory(userId, null, 50, 1_000L, 2_000L, TransactionType.USE);
+        then(pointService).should(never()).checkPointHistory(userId, null, 50);
+    }
+
+    @Test
+    @DisplayName("[GET] - limit 없이 cursor 만 전달하면 기본 크기의 페이지를 조회")
+    void givenCursorWithoutLimit_whenRequesting_thenDefaultSizedPage() throws Exception {
+        // Given
+        Long userId = 1L;
+        given(pointService.checkPointHistory(userId, 10L, 100)).willReturn(new PointHistoryPage(List.of(), null));
+
+        // When
+        mvc.perform(get("/point/" + userId + "/histories")
+                        .param("cursor", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories").isArray());
+
+        // Then
+        then(pointService).should().checkPointHistory(userId, 10L, 100);
+        then(pointService).should(never()).checkPointHistory(userId);
+    }
+
     @Test
     @DisplayName("[PATCH] - 특정 사용자 포인트 사용")
     void givenUserIdAndAmount_whenRequesting_thenUsingPoint() throws Exception {
         // Given
         Long userId = 1L;
         Long amount = 100L;
-        PointRequest pointRequest = new PointRequest(amount);
-        given(pointService.usePoint(pointRequest.toDto(userId, amount))).willReturn(new UserPoint(1L, 1000L, System.currentTimeMillis()));
+        given(pointAsyncService.usePoint(userId, amount, null))
+                .willReturn(CompletableFuture.completedFuture(new UserPoint(1L, 1000L, System.currentTimeMillis())));
 
         // When
-        mvc.perform(patch("/point/" + userId + "/use")
+        MvcResult mvcResult = mvc.perform(patch("/point/" + userId + "/use")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content("{\"amount\" : 100}")
-                ).andExpect(status().isOk())
+                ).andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        then(pointAsyncService).should().usePoint(userId, amount, null);
+    }
 
+    @Test
+    @DisplayName("[POST] - 여러 사용자 포인트 일괄 충전/사용")
+    void givenCommands_whenRequestingBatch_thenResultPerItem() throws Exception {
+        // Given
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, TransactionType.CHARGE, 500L),
+                new PointCommand(2L, TransactionType.USE, 100L)
+        );
+        given(pointBatchService.execute(commands, null)).willReturn(List.of(
+                PointBatchResponse.success(commands.get(0), new UserPoint(1L, 500L, 0L)),
+                PointBatchResponse.failure(commands.get(1), "포인트 충전 금액을 확인해주세요.")
+        ));
+
+        // When
+        mvc.perform(post("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"userId\" : 1, \"type\" : \"CHARGE\", \"amount\" : 500}, {\"userId\" : 2, \"type\" : \"USE\", \"amount\" : 100}]")
+                ).andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[1].success").value(false));
 
         // Then
-        then(pointService).should().usePoint(pointRequest.toDto(userId, amount));
+        then(pointBatchService).should().execute(commands, null);
     }
 
 }
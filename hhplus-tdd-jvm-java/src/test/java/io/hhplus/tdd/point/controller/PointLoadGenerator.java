@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.support.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청(Request)을 반복 호출하며 지연 시간과 처리량을 측정합니다. warmUp 동안의 결과는 집계하지 않습니다.
+ * closed-loop: clients 개의 클라이언트가 각자 응답을 받은 뒤 다음 요청을 보냅니다. 서버가 느려지면 요청 속도도 함께 줄어듭니다.
+ * open-loop: 서버 응답과 관계없이 정해진 속도로 요청을 보냅니다. 지연 시간은 예정된 시작 시각부터 재므로,
+ * 밀린 요청의 대기 시간도 그대로 포함됩니다. (coordinated omission 보정)
+ */
+public class PointLoadGenerator {
+
+    private static final int MAX_LATENCY_MILLIS = 60_000;
+
+    private final Duration warmUp;
+    private final Duration measurement;
+
+    public PointLoadGenerator(Duration warmUp, Duration measurement) {
+        this.warmUp = warmUp;
+        this.measurement = measurement;
+    }
+
+    @FunctionalInterface
+    public interface Request {
+
+        /**
+         * @param client   closed-loop 의 클라이언트 번호 (open-loop 는 sequence 와 같음)
+         * @param sequence 0 부터 증가하는 요청 번호
+         */
+        void send(int client, long sequence) throws Exception;
+    }
+
+    public LoadReport closedLoop(String scenario, String latencyModel, int clients, Request request) throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(MAX_LATENCY_MILLIS);
+        LongAdder errors = new LongAdder();
+        AtomicLong sequence = new AtomicLong();
+        long measureFrom = System.nanoTime() + warmUp.toNanos();
+        long measureUntil = measureFrom + measurement.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(clients);
+            for (int i = 0; i < clients; i++) {
+                int client = i;
+                futures.add(executor.submit(() -> {
+                    while (System.nanoTime() < measureUntil) {
+                        long current = sequence.getAndIncrement();
+                        long startedAt = System.nanoTime();
+                        boolean succeeded = send(request, client, current);
+                        record(histogram, errors, startedAt, succeeded, measureFrom, measureUntil);
+                    }
+                    return null;
+                }));
+            }
+            awaitAll(futures);
+        }
+        return LoadReport.of(scenario, "closed-loop", latencyModel, clients, 0.0, histogram, errors.sum(), measurement);
+    }
+
+    public LoadReport openLoop(String scenario, String latencyModel, double requestsPerSecond, Request request) throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(MAX_LATENCY_MILLIS);
+        LongAdder errors = new LongAdder();
+        long intervalNanos = Math.max(1L, (long) (1_000_000_000L / requestsPerSecond));
+        long startsAt = System.nanoTime();
+        long measureFrom = startsAt + warmUp.toNanos();
+        long measureUntil = measureFrom + measurement.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long sequence = 0; ; sequence++) {
+                long scheduledAt = startsAt + sequence * intervalNanos;
+                if (scheduledAt >= measureUntil) {
+                    break;
+                }
+                long waitNanos = scheduledAt - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                long current = sequence;
+                executor.execute(() -> {
+                    boolean succeeded = send(request, (int) current, current);
+                    record(histogram, errors, scheduledAt, succeeded, measureFrom, measureUntil);
+                });
+            }
+        }
+        return LoadReport.of(scenario, "open-loop", latencyModel, 0, requestsPerSecond, histogram, errors.sum(), measurement);
+    }
+
+    private static boolean send(Request request, int client, long sequence) {
+        try {
+            request.send(client, sequence);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 측정 구간 안에서 시작한 요청만 집계합니다.
+    private static void record(LatencyHistogram histogram, LongAdder errors, long startedAt, boolean succeeded, long measureFrom, long measureUntil) {
+        if (startedAt < measureFrom || startedAt >= measureUntil) {
+            return;
+        }
+        if (succeeded) {
+            histogram.record(System.nanoTime() - startedAt);
+        } else {
+            errors.increment();
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get(warmUp.plus(measurement).toSeconds() + 30, TimeUnit.SECONDS);
+        }
+    }
+}
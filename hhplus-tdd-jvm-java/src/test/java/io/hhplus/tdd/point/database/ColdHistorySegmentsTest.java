@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColdHistorySegmentsTest {
+
+    private static final int ROUND_ENTRIES = 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void 블록_크기를_넘는_내역도_id_순서대로_읽는다() throws IOException {
+        // Given
+        ColdHistorySegments segments = open();
+        int count = ColdHistorySegment.BLOCK_ENTRIES * 2 + 10;
+        try (ColdHistorySegment.Writer writer = segments.newWriter()) {
+            for (long userId = 1; userId <= 200; userId++) {
+                writer.beginUser(userId);
+                for (int i = 0; i < (userId == 150 ? count : 3); i++) {
+                    writer.add(userId * 100_000 + i, TransactionType.CHARGE, i - 1L, 1_000L + i);
+                }
+            }
+            segments.publish(writer);
+        }
+
+        // When
+        List<Long> amounts = amounts(segments, 150L, 0L, Long.MAX_VALUE);
+
+        // Then
+        assertThat(amounts).hasSize(count);
+        assertThat(amounts.get(0)).isEqualTo(-1L);
+        assertThat(amounts.get(count - 1)).isEqualTo(count - 2L);
+        assertThat(amounts(segments, 150L, 150L * 100_000 + count - 3, Long.MAX_VALUE)).hasSize(2);
+        assertThat(amounts(segments, 201L, 0L, Long.MAX_VALUE)).isEmpty();
+        segments.close();
+    }
+
+    @Test
+    public void 비슷한_크기의_세그먼트가_모이면_병합하고_다시_열어도_같은_내역을_읽는다() throws IOException {
+        // Given
+        ColdHistorySegments segments = open();
+        for (int round = 0; round < 9; round++) {
+            publishRound(segments, round);
+        }
+
+        // When
+        List<Long> merged = amounts(segments, 2L, 0L, Long.MAX_VALUE);
+        segments.close();
+        ColdHistorySegments reopened = open();
+
+        // Then
+        // 4개씩 병합된 세그먼트 2개와 마지막에 추가된 세그먼트 1개
+        assertThat(merged).hasSize(9 * ROUND_ENTRIES).isSorted();
+        assertThat(merged.get(0)).isEqualTo(0L);
+        assertThat(merged.get(merged.size() - 1)).isEqualTo(8L);
+        assertThat(reopened.segmentCount()).isEqualTo(3);
+        assertThat(amounts(reopened, 2L, 0L, Long.MAX_VALUE)).isEqualTo(merged);
+        reopened.close();
+    }
+
+    @Test
+    public void 병합된_큰_세그먼트는_작은_세그먼트를_병합할_때_다시_쓰지_않는다() throws IOException {
+        // Given
+        ColdHistorySegments segments = open();
+        for (int round = 0; round < 4; round++) {
+            publishRound(segments, round);
+        }
+        Object firstMerged = Files.readAttributes(directory.resolve("history-0000000004.seg"), BasicFileAttributes.class).fileKey();
+
+        // When
+        for (int round = 4; round < 12; round++) {
+            publishRound(segments, round);
+        }
+
+        // Then
+        assertThat(segments.segmentCount()).isEqualTo(3);
+        assertThat(Files.readAttributes(directory.resolve("history-0000000004.seg"), BasicFileAttributes.class).fileKey()).isEqualTo(firstMerged);
+        for (int round = 12; round < 16; round++) {
+            publishRound(segments, round);
+        }
+        assertThat(segments.segmentCount()).isEqualTo(1);
+        assertThat(amounts(segments, 3L, 0L, Long.MAX_VALUE)).hasSize(16 * ROUND_ENTRIES);
+        segments.close();
+    }
+
+    // 사용자 3명에게 내역을 ROUND_ENTRIES 건씩 담은 같은 크기의 세그먼트를 추가합니다.
+    // 블록 헤더보다 내역이 커야 병합본의 크기가 원본 개수에 비례합니다.
+    private static void publishRound(ColdHistorySegments segments, int round) throws IOException {
+        try (ColdHistorySegment.Writer writer = segments.newWriter()) {
+            for (long userId = 1; userId <= 3; userId++) {
+                writer.beginUser(userId);
+                for (int i = 0; i < ROUND_ENTRIES; i++) {
+                    writer.add((round * 3L + userId) * ROUND_ENTRIES + i, TransactionType.USE, round, round * 1_000L + i);
+                }
+            }
+            segments.publish(writer);
+        }
+    }
+
+    private ColdHistorySegments open() {
+        return new ColdHistorySegments(directory, Duration.ofDays(3), Duration.ofHours(1));
+    }
+
+    private static List<Long> amounts(ColdHistorySegments segments, long userId, long afterId, long untilId) {
+        List<Long> amounts = new ArrayList<>();
+        segments.scan(userId, afterId, untilId, Long.MIN_VALUE, Long.MAX_VALUE, (id, type, amount, timeMillis) -> amounts.add(amount));
+        return amounts;
+    }
+}
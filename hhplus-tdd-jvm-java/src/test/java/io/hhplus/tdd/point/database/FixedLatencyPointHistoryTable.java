@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 무작위 지연 대신 고정 지연을 갖는 테스트용 PointHistoryTable 입니다.
+ * 동시 호출에 안전하므로 저장소가 호출을 직렬화하지 않습니다.
+ * 내역은 읽기/쓰기 잠금으로 보호하는 ArrayList 에 쌓으므로 추가는 O(1) 이고, 지연은 잠금 밖에서 기다립니다.
+ */
+public class FixedLatencyPointHistoryTable extends PointHistoryTable implements ConcurrentTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long latencyMillis;
+    private long cursor = 1L;
+
+    public FixedLatencyPointHistoryTable(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public PointHistory insert(Long id, Long amount, TransactionType transactionType, Long updateMillis) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        lock.writeLock().lock();
+        try {
+            PointHistory history = new PointHistory(cursor++, id, transactionType, amount, updateMillis);
+            table.add(history);
+            return history;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(Long userId) {
+        lock.readLock().lock();
+        try {
+            return table.stream()
+                    .filter(it -> it.userId().equals(userId))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무작위 지연 대신 고정 지연을 갖는 테스트용 UserPointTable 입니다.
+ * 동시 호출에 안전하므로 저장소가 호출을 직렬화하지 않습니다.
+ */
+public class FixedLatencyUserPointTable extends UserPointTable implements ConcurrentTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final long latencyMillis;
+
+    public FixedLatencyUserPointTable(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        UserPoint userPoint = table.get(id);
+        return userPoint == null ? UserPoint.empty(id) : userPoint;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(Long id, Long amount) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        UserPoint userPoint = UserPoint.of(id, amount);
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
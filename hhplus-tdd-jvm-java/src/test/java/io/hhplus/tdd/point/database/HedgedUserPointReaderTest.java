@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedUserPointReaderTest {
+
+    @Test
+    public void 첫_조회가_지연되면_헤지_조회_결과를_사용한다() throws InterruptedException {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        UserPointTable slowFirstCall = new FixedLatencyUserPointTable(0L) {
+            @Override
+            public UserPoint selectById(Long id) throws InterruptedException {
+                if (calls.incrementAndGet() == 1) {
+                    TimeUnit.MILLISECONDS.sleep(1_000);
+                }
+                return super.selectById(id);
+            }
+        };
+        HedgedUserPointReader reader = new HedgedUserPointReader(slowFirstCall, true, 95.0, Duration.ofMillis(10), Duration.ofMillis(50), 4);
+
+        // When
+        long startedAt = System.nanoTime();
+        UserPoint userPoint = reader.read(1L);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // Then
+        assertThat(userPoint.id()).isEqualTo(1L);
+        assertThat(elapsedMillis).isLessThan(500L);
+        assertThat(reader.stats().hedges()).isEqualTo(1L);
+        assertThat(reader.stats().hedgeWins()).isEqualTo(1L);
+        reader.close();
+    }
+
+    @Test
+    public void 지연_전에_끝난_조회는_헤지하지_않는다() throws InterruptedException {
+        // Given
+        HedgedUserPointReader reader = new HedgedUserPointReader(new FixedLatencyUserPointTable(0L), true, 95.0, Duration.ofMillis(10), Duration.ofMillis(200), 4);
+
+        // When
+        reader.read(1L);
+
+        // Then
+        assertThat(reader.stats().reads()).isEqualTo(1L);
+        assertThat(reader.stats().hedges()).isZero();
+        reader.close();
+    }
+
+    @Test
+    public void 헤지는_전체_조회의_max_rate_비율을_넘지_않는다() throws InterruptedException {
+        // Given
+        HedgedUserPointReader reader = new HedgedUserPointReader(new FixedLatencyUserPointTable(20L), true, 95.0,
+                Duration.ofMillis(1), Duration.ofMillis(1), 4, 0.1, Duration.ofMinutes(1), false);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            reader.read(1L);
+        }
+
+        // Then
+        HedgedUserPointReader.HedgeStats stats = reader.stats();
+        // 처음 허용되는 10 회와 조회 100 회의 10%
+        assertThat(stats.hedges()).isLessThanOrEqualTo(20L);
+        assertThat(stats.hedges() + stats.hedgesSkipped()).isEqualTo(100L);
+        reader.close();
+    }
+
+    @Test
+    public void 지연_기준은_최근_구간의_관측치로_다시_정한다() throws InterruptedException {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        UserPointTable slowAtFirst = new FixedLatencyUserPointTable(0L) {
+            @Override
+            public UserPoint selectById(Long id) throws InterruptedException {
+                if (calls.incrementAndGet() <= 100) {
+                    TimeUnit.MILLISECONDS.sleep(30);
+                }
+                return super.selectById(id);
+            }
+        };
+        HedgedUserPointReader reader = new HedgedUserPointReader(slowAtFirst, true, 95.0,
+                Duration.ofMillis(1), Duration.ofMillis(200), 4, 0.1, Duration.ofMillis(100), false);
+        for (int i = 0; i < 100; i++) {
+            reader.read(1L);
+        }
+        long slowDelay = awaitRotation(reader);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            reader.read(1L);
+        }
+        long recoveredDelay = awaitRotation(reader);
+
+        // Then
+        assertThat(slowDelay).isGreaterThanOrEqualTo(30L);
+        assertThat(recoveredDelay).isLessThan(slowDelay);
+        reader.close();
+    }
+
+    // 구간이 끝날 때까지 기다린 뒤 한 번 더 조회해 지연 기준을 갱신합니다.
+    private static long awaitRotation(HedgedUserPointReader reader) throws InterruptedException {
+        TimeUnit.MILLISECONDS.sleep(150);
+        reader.read(1L);
+        return reader.stats().delayMillis();
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistoryColumnsTest {
+
+    @Test
+    public void 청크_경계를_넘어도_입력한_값을_그대로_복원한다() {
+        // Given
+        HistoryColumns columns = new HistoryColumns(1L);
+        int rows = 10_000;
+
+        // When
+        for (int i = 1; i <= rows; i++) {
+            columns.add(i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i * 10L, i * 100L);
+        }
+
+        // Then
+        assertThat(columns.size()).isEqualTo(rows);
+        assertThat(columns.get(4095)).isEqualTo(new PointHistory(4096L, 1L, TransactionType.USE, 40960L, 409600L));
+        assertThat(columns.get(4096)).isEqualTo(new PointHistory(4097L, 1L, TransactionType.CHARGE, 40970L, 409700L));
+        assertThat(columns.get(rows - 1).id()).isEqualTo(rows);
+    }
+
+    @Test
+    public void 늦게_도착한_내역도_id_순서를_유지한다() {
+        // Given
+        HistoryColumns columns = new HistoryColumns(1L);
+        columns.add(1L, TransactionType.CHARGE, 100L, 1L);
+        columns.add(3L, TransactionType.CHARGE, 300L, 3L);
+
+        // When
+        columns.add(2L, TransactionType.USE, 200L, 2L);
+
+        // Then
+        List<PointHistory> histories = columns.slice(0, columns.size());
+        assertThat(histories).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+        assertThat(histories).extracting(PointHistory::type)
+                .containsExactly(TransactionType.CHARGE, TransactionType.USE, TransactionType.CHARGE);
+    }
+
+    @Test
+    public void 커서_이후의_첫_위치를_찾는다() {
+        // Given
+        HistoryColumns columns = new HistoryColumns(1L);
+        for (long id = 2; id <= 10; id += 2) {
+            columns.add(id, TransactionType.CHARGE, id, id);
+        }
+
+        // Then
+        assertThat(columns.firstIndexAfter(0L)).isEqualTo(0);
+        assertThat(columns.firstIndexAfter(4L)).isEqualTo(2);
+        assertThat(columns.firstIndexAfter(5L)).isEqualTo(2);
+        assertThat(columns.firstIndexAfter(10L)).isEqualTo(5);
+    }
+
+    @Test
+    public void 시각_범위와_유형으로_내역을_조회한다() {
+        // Given
+        HistoryColumns columns = new HistoryColumns(1L);
+        for (long id = 1; id <= 10; id++) {
+            columns.add(id, id % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, id, id * 100L);
+        }
+
+        // When
+        List<PointHistory> range = columns.selectByTime(300L, 700L, null);
+        List<PointHistory> charges = columns.selectByTime(300L, 700L, TransactionType.CHARGE);
+
+        // Then
+        assertThat(range).extracting(PointHistory::id).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(charges).extracting(PointHistory::id).containsExactly(3L, 5L);
+    }
+
+    @Test
+    public void 시각_순서가_어긋난_내역이_있어도_범위에_포함되면_조회한다() {
+        // Given
+        HistoryColumns columns = new HistoryColumns(1L);
+        columns.add(1L, TransactionType.CHARGE, 1L, 100L);
+        columns.add(2L, TransactionType.CHARGE, 1L, 500L);
+        columns.add(3L, TransactionType.CHARGE, 1L, 200L);
+        columns.add(4L, TransactionType.CHARGE, 1L, 600L);
+
+        // When
+        List<PointHistory> histories = columns.selectByTime(150L, 550L, null);
+
+        // Then
+        assertThat(histories).extracting(PointHistory::id).containsExactly(2L, 3L);
+    }
+}
@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point.database;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테이블 호출 한 번에 더할 지연 시간 분포입니다.
+ * 무작위 분포는 seed 와 호출 순번만으로 값이 정해지므로(SplitMix64), 같은 seed 로 다시 실행하면 같은 지연 시간 순열이 나옵니다.
+ * 여러 스레드가 함께 호출하면 어느 스레드가 몇 번째 값을 받는지는 실행마다 달라질 수 있지만, 분포와 순열 자체는 같습니다.
+ */
+public interface LatencyModel {
+
+    long nextNanos();
+
+    /**
+     * 보고서에 남길 분포 설명입니다.
+     */
+    String description();
+
+    static LatencyModel none() {
+        return fixed(Duration.ZERO);
+    }
+
+    static LatencyModel fixed(Duration latency) {
+        return new Fixed(latency.toNanos());
+    }
+
+    /**
+     * 0 ~ max 사이의 균등 분포입니다. 원래 테이블의 Math.random() 지연을 seed 로 재현할 수 있게 한 것입니다.
+     */
+    static LatencyModel uniform(Duration max, long seed) {
+        return new Uniform(max.toNanos(), new SeededRandom(seed));
+    }
+
+    /**
+     * 정규 분포입니다. 음수는 0 으로 자릅니다.
+     */
+    static LatencyModel normal(Duration mean, Duration standardDeviation, long seed) {
+        return new Normal(mean.toNanos(), standardDeviation.toNanos(), new SeededRandom(seed));
+    }
+
+    /**
+     * 중앙값과 99 백분위로 정하는 로그 정규 분포입니다. 대부분은 median 근처이고 드물게 p99 이상으로 길어집니다.
+     */
+    static LatencyModel longTail(Duration median, Duration p99, long seed) {
+        if (p99.compareTo(median) <= 0) {
+            throw new IllegalArgumentException("p99 must be greater than median: " + median + ", " + p99);
+        }
+        double sigma = Math.log((double) p99.toNanos() / median.toNanos()) / Normal.Z_99;
+        return new LogNormal(median.toNanos(), sigma, new SeededRandom(seed));
+    }
+
+    record Fixed(long nanos) implements LatencyModel {
+
+        @Override
+        public long nextNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String description() {
+            return "fixed(" + Duration.ofNanos(nanos) + ")";
+        }
+    }
+
+    record Uniform(long maxNanos, SeededRandom random) implements LatencyModel {
+
+        @Override
+        public long nextNanos() {
+            return (long) (random.nextDouble() * maxNanos);
+        }
+
+        @Override
+        public String description() {
+            return "uniform(0~" + Duration.ofNanos(maxNanos) + ", seed=" + random.seed() + ")";
+        }
+    }
+
+    record Normal(long meanNanos, long standardDeviationNanos, SeededRandom random) implements LatencyModel {
+
+        private static final double Z_99 = 2.3263478740408408;
+
+        @Override
+        public long nextNanos() {
+            return Math.max(0L, Math.round(meanNanos + random.nextGaussian() * standardDeviationNanos));
+        }
+
+        @Override
+        public String description() {
+            return "normal(mean=" + Duration.ofNanos(meanNanos) + ", sd=" + Duration.ofNanos(standardDeviationNanos) + ", seed=" + random.seed() + ")";
+        }
+    }
+
+    record LogNormal(long medianNanos, double sigma, SeededRandom random) implements LatencyModel {
+
+        @Override
+        public long nextNanos() {
+            return Math.round(medianNanos * Math.exp(sigma * random.nextGaussian()));
+        }
+
+        @Override
+        public String description() {
+            return "long-tail(median=" + Duration.ofNanos(medianNanos) + ", sigma=" + String.format("%.3f", sigma) + ", seed=" + random.seed() + ")";
+        }
+    }
+
+    /**
+     * n 번째 값을 seed 와 n 으로만 계산하는 난수원입니다. 스레드 간에 공유해도 잠금 없이 같은 순열을 냅니다.
+     */
+    final class SeededRandom {
+
+        private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+        private final long seed;
+        private final AtomicLong sequence = new AtomicLong();
+
+        public SeededRandom(long seed) {
+            this.seed = seed;
+        }
+
+        public long seed() {
+            return seed;
+        }
+
+        public double nextDouble() {
+            return unit(sequence.getAndIncrement() * 2);
+        }
+
+        // Box-Muller 변환, 한 번에 두 개의 균등 난수를 씁니다.
+        public double nextGaussian() {
+            long index = sequence.getAndIncrement() * 2;
+            double u1 = 1.0 - unit(index);
+            double u2 = unit(index + 1);
+            return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+        }
+
+        private double unit(long index) {
+            return (mix(seed + (index + 1) * GOLDEN_GAMMA) >>> 11) * 0x1.0p-53;
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.database;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LatencyModelTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void 같은_seed_로_만든_분포는_같은_지연_시간_순열을_낸다() {
+        // Given
+        Supplier<LatencyModel> longTail = () -> LatencyModel.longTail(Duration.ofMillis(5), Duration.ofMillis(100), 42L);
+
+        // When
+        long[] first = sample(longTail.get(), 1_000);
+        long[] second = sample(longTail.get(), 1_000);
+        long[] otherSeed = sample(LatencyModel.longTail(Duration.ofMillis(5), Duration.ofMillis(100), 7L), 1_000);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(otherSeed).isNotEqualTo(first);
+    }
+
+    @Test
+    public void 고정_분포는_항상_같은_값을_낸다() {
+        // Given
+        LatencyModel fixed = LatencyModel.fixed(Duration.ofMillis(3));
+
+        // When
+        long[] samples = sample(fixed, 100);
+
+        // Then
+        assertThat(samples).containsOnly(Duration.ofMillis(3).toNanos());
+    }
+
+    @Test
+    public void 분포별_백분위가_설정한_값에_가깝다() {
+        // When
+        long[] uniform = sorted(LatencyModel.uniform(Duration.ofMillis(100), 1L));
+        long[] normal = sorted(LatencyModel.normal(Duration.ofMillis(50), Duration.ofMillis(10), 1L));
+        long[] longTail = sorted(LatencyModel.longTail(Duration.ofMillis(5), Duration.ofMillis(100), 1L));
+
+        // Then
+        assertThat(millis(percentile(uniform, 50))).isBetween(48.0, 52.0);
+        assertThat(millis(percentile(uniform, 100))).isLessThan(100.0);
+        assertThat(millis(percentile(normal, 50))).isBetween(49.0, 51.0);
+        assertThat(millis(percentile(normal, 84))).isBetween(58.0, 62.0);
+        assertThat(millis(percentile(longTail, 50))).isBetween(4.8, 5.2);
+        assertThat(millis(percentile(longTail, 99))).isBetween(90.0, 110.0);
+    }
+
+    @Test
+    public void long_tail_의_p99_는_중앙값보다_커야_한다() {
+        assertThatThrownBy(() -> LatencyModel.longTail(Duration.ofMillis(5), Duration.ofMillis(5), 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long[] sample(LatencyModel latencyModel, int count) {
+        long[] samples = new long[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = latencyModel.nextNanos();
+        }
+        return samples;
+    }
+
+    private static long[] sorted(LatencyModel latencyModel) {
+        long[] samples = sample(latencyModel, SAMPLES);
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
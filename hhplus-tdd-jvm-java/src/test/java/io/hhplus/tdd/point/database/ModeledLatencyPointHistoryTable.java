@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PointHistoryTable 의 공개 API 를 감싸, 내역 추가마다 LatencyModel 이 정한 만큼 지연한 뒤 delegate 에 위임하는 테스트용 테이블입니다.
+ * 원래 테이블처럼 조회(selectAllByUserId)에는 지연을 두지 않습니다.
+ */
+public class ModeledLatencyPointHistoryTable extends PointHistoryTable implements DelegatingTable {
+
+    private final PointHistoryTable delegate;
+    private final LatencyModel latencyModel;
+
+    public ModeledLatencyPointHistoryTable(LatencyModel latencyModel) {
+        this(new FixedLatencyPointHistoryTable(0L), latencyModel);
+    }
+
+    public ModeledLatencyPointHistoryTable(PointHistoryTable delegate, LatencyModel latencyModel) {
+        this.delegate = delegate;
+        this.latencyModel = latencyModel;
+    }
+
+    @Override
+    public PointHistoryTable delegate() {
+        return delegate;
+    }
+
+    @Override
+    public PointHistory insert(Long id, Long amount, TransactionType transactionType, Long updateMillis) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(latencyModel.nextNanos());
+        return delegate.insert(id, amount, transactionType, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(Long userId) {
+        return delegate.selectAllByUserId(userId);
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPointTable 의 공개 API 를 감싸, 호출마다 LatencyModel 이 정한 만큼 지연한 뒤 delegate 에 위임하는 테스트용 테이블입니다.
+ * delegate 로 지연이 없는 테이블(FixedLatencyUserPointTable(0))을 주면 지연 시간이 모델만으로 정해집니다.
+ */
+public class ModeledLatencyUserPointTable extends UserPointTable implements DelegatingTable {
+
+    private final UserPointTable delegate;
+    private final LatencyModel latencyModel;
+
+    public ModeledLatencyUserPointTable(LatencyModel latencyModel) {
+        this(new FixedLatencyUserPointTable(0L), latencyModel);
+    }
+
+    public ModeledLatencyUserPointTable(UserPointTable delegate, LatencyModel latencyModel) {
+        this.delegate = delegate;
+        this.latencyModel = latencyModel;
+    }
+
+    @Override
+    public UserPointTable delegate() {
+        return delegate;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(latencyModel.nextNanos());
+        return delegate.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(Long id, Long amount) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(latencyModel.nextNanos());
+        return delegate.insertOrUpdate(id, amount);
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.DailyPointSummary;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointAggregatesTest {
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    @Test
+    public void 누적_합계와_일자별_합계를_함께_갱신한다() {
+        // Given
+        PointAggregates aggregates = new PointAggregates(ZoneOffset.UTC);
+        aggregates.add(TransactionType.CHARGE, 1_000L, 0L);
+        aggregates.add(TransactionType.USE, 300L, 10L);
+        aggregates.add(TransactionType.CHARGE, 500L, DAY_MILLIS);
+        aggregates.add(TransactionType.CHARGE, 200L, 2 * DAY_MILLIS);
+
+        // When
+        PointSummary summary = aggregates.summarize(1L, LocalDate.ofEpochDay(1));
+
+        // Then
+        assertThat(summary.totalCharged()).isEqualTo(1_700L);
+        assertThat(summary.totalUsed()).isEqualTo(300L);
+        assertThat(summary.chargeCount()).isEqualTo(3L);
+        assertThat(summary.useCount()).isEqualTo(1L);
+        assertThat(summary.days()).containsExactly(
+                new DailyPointSummary(LocalDate.ofEpochDay(1), 500L, 0L, 1L, 0L),
+                new DailyPointSummary(LocalDate.ofEpochDay(2), 200L, 0L, 1L, 0L)
+        );
+    }
+
+    @Test
+    public void 하루의_충전과_사용을_같은_일자에_합산한다() {
+        // Given
+        PointAggregates aggregates = new PointAggregates(ZoneOffset.UTC);
+        aggregates.add(TransactionType.CHARGE, 1_000L, 0L);
+        aggregates.add(TransactionType.USE, 300L, DAY_MILLIS - 1);
+
+        // When
+        PointSummary summary = aggregates.summarize(1L, LocalDate.ofEpochDay(0));
+
+        // Then
+        assertThat(summary.days()).containsExactly(new DailyPointSummary(LocalDate.ofEpochDay(0), 1_000L, 300L, 1L, 1L));
+    }
+}
@@ -0,0 +1,238 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointHistoryPage;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.journal.PointSnapshotter;
+import io.hhplus.tdd.point.metrics.PointMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointHistoryStoreTest {
+
+    private PointHistoryStore pointHistoryStore;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L));
+        for (long amount = 1; amount <= 5; amount++) {
+            pointHistoryStore.insert(1L, amount, TransactionType.CHARGE, System.currentTimeMillis());
+            pointHistoryStore.insert(2L, amount, TransactionType.CHARGE, System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    public void 사용자별_내역을_입력_순서대로_조회한다() {
+        // When
+        List<PointHistory> histories = pointHistoryStore.selectAllByUserId(1L);
+
+        // Then
+        assertThat(histories).extracting(PointHistory::userId).containsOnly(1L);
+        assertThat(histories).extracting(PointHistory::amount).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    public void 내역이_없는_사용자는_빈_목록을_반환한다() {
+        // Then
+        assertThat(pointHistoryStore.selectAllByUserId(3L)).isEmpty();
+        assertThat(pointHistoryStore.selectPageByUserId(3L, null, 10).histories()).isEmpty();
+    }
+
+    @Test
+    public void 커서_기반으로_페이지를_나누어_조회한다() {
+        // When
+        PointHistoryPage first = pointHistoryStore.selectPageByUserId(1L, null, 2);
+        PointHistoryPage second = pointHistoryStore.selectPageByUserId(1L, first.nextCursor(), 2);
+        PointHistoryPage last = pointHistoryStore.selectPageByUserId(1L, second.nextCursor(), 2);
+
+        // Then
+        assertThat(first.histories()).extracting(PointHistory::amount).containsExactly(1L, 2L);
+        assertThat(second.histories()).extracting(PointHistory::amount).containsExactly(3L, 4L);
+        assertThat(last.histories()).extracting(PointHistory::amount).containsExactly(5L);
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    public void table_방식은_테이블이_보관한_행_객체를_복사하지_않고_그대로_돌려준다() throws InterruptedException {
+        // Given
+        FixedLatencyPointHistoryTable table = new FixedLatencyPointHistoryTable(0L);
+        PointHistoryStore store = new PointHistoryStore(table, PointHistoryStore.Storage.TABLE);
+
+        // When
+        store.insert(1L, 100L, TransactionType.CHARGE, 10L);
+        store.insert(1L, 30L, TransactionType.USE, 20L);
+
+        // Then
+        List<PointHistory> stored = table.selectAllByUserId(1L);
+        List<PointHistory> indexed = store.selectAllByUserId(1L);
+        assertThat(indexed).hasSize(2);
+        assertThat(indexed.get(0)).isSameAs(stored.get(0));
+        assertThat(indexed.get(1)).isSameAs(stored.get(1));
+    }
+
+    @Test
+    public void columnar_방식은_테이블에_행을_남기지_않고_같은_내역을_돌려준다() throws InterruptedException {
+        // Given
+        FixedLatencyPointHistoryTable table = new FixedLatencyPointHistoryTable(0L);
+        PointHistoryStore store = new PointHistoryStore(table, PointHistoryStore.Storage.COLUMNAR);
+
+        // When
+        PointHistory first = store.insert(1L, 100L, TransactionType.CHARGE, 10L);
+        store.insert(2L, 50L, TransactionType.CHARGE, 20L);
+        PointHistory third = store.insert(1L, 30L, TransactionType.USE, 30L);
+
+        // Then
+        assertThat(store.selectAllByUserId(1L)).containsExactly(first, third);
+        assertThat(first).isEqualTo(new PointHistory(1L, 1L, TransactionType.CHARGE, 100L, 10L));
+        assertThat(third.id()).isEqualTo(3L);
+        assertThat(store.selectPageByUserId(1L, first.id(), 10).histories()).containsExactly(third);
+        assertThat(table.selectAllByUserId(1L)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(PointHistoryStore.Storage.class)
+    public void 재시작하면_복구한_내역_뒤에_새_내역의_id_를_이어서_발급한다(PointHistoryStore.Storage storage, @TempDir Path directory) throws InterruptedException {
+        // Given
+        try (PointJournal journal = new PointJournal(directory, 4096, PointJournal.SyncMode.GROUP, Duration.ofMillis(1))) {
+            PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), journal, ColdHistorySegments.disabled(), PointMetrics.noop(), storage);
+            store.insert(1L, 100L, TransactionType.CHARGE, 10L);
+            store.insert(1L, 30L, TransactionType.USE, 20L);
+        }
+
+        // When
+        try (PointJournal journal = new PointJournal(directory, 4096, PointJournal.SyncMode.GROUP, Duration.ofMillis(1))) {
+            PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), journal, ColdHistorySegments.disabled(), PointMetrics.noop(), storage);
+            PointHistory added = store.insert(1L, 50L, TransactionType.CHARGE, 30L);
+
+            // Then
+            assertThat(added.id()).isEqualTo(3L);
+            assertThat(store.selectAllByUserId(1L)).extracting(PointHistory::id).containsExactly(1L, 2L, 3L);
+            assertThat(store.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(100L, 30L, 50L);
+            assertThat(store.selectPageByUserId(1L, 1L, 10).histories()).extracting(PointHistory::id).containsExactly(2L, 3L);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PointHistoryStore.Storage.class)
+    public void 히스토리_스냅숏_이후의_저널만_재생해_색인과_합계를_복구하고_지난_세그먼트를_지운다(PointHistoryStore.Storage storage, @TempDir Path directory) throws InterruptedException, IOException {
+        // Given
+        long now = System.currentTimeMillis();
+        try (PointJournal journal = new PointJournal(directory, 4096, PointJournal.SyncMode.NONE, Duration.ZERO)) {
+            PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), journal, ColdHistorySegments.disabled(), PointMetrics.noop(), storage);
+            for (int i = 0; i < 250; i++) {
+                store.insert(1L, 10L, TransactionType.CHARGE, now);
+                store.insert(2L, 5L, TransactionType.CHARGE, now);
+            }
+            new PointSnapshotter(journal).snapshot();
+            store.snapshot();
+            store.insert(1L, 3L, TransactionType.USE, now);
+        }
+
+        // When
+        try (PointJournal journal = new PointJournal(directory, 4096, PointJournal.SyncMode.NONE, Duration.ZERO)) {
+            PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), journal, ColdHistorySegments.disabled(), PointMetrics.noop(), storage);
+            PointHistory added = store.insert(2L, 7L, TransactionType.USE, now);
+
+            // Then
+            assertThat(segmentCount(directory)).isEqualTo(1L);
+            assertThat(added.id()).isEqualTo(502L);
+            List<PointHistory> first = store.selectAllByUserId(1L);
+            assertThat(first).hasSize(251);
+            assertThat(first).extracting(PointHistory::id).isSorted().doesNotHaveDuplicates();
+            assertThat(first.get(250).amount()).isEqualTo(3L);
+            assertThat(store.selectAllByUserId(2L)).hasSize(251);
+            PointSummary summary = store.summarize(1L, 1);
+            assertThat(summary.totalCharged()).isEqualTo(2_500L);
+            assertThat(summary.chargeCount()).isEqualTo(250L);
+            assertThat(summary.totalUsed()).isEqualTo(3L);
+            assertThat(store.summarize(2L, 1).totalUsed()).isEqualTo(7L);
+        }
+    }
+
+    @Test
+    public void 시각_범위로_내역을_조회한다() throws InterruptedException {
+        // Given
+        PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L));
+        for (long time = 1; time <= 5; time++) {
+            store.insert(1L, time, TransactionType.CHARGE, time * 1_000L);
+        }
+        store.insert(1L, 6L, TransactionType.USE, 6_000L);
+
+        // When
+        List<PointHistory> histories = store.selectByUserIdAndTime(1L, 2_000L, 6_001L, TransactionType.CHARGE);
+
+        // Then
+        assertThat(histories).extracting(PointHistory::amount).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(store.selectByUserIdAndTime(3L, 0L, Long.MAX_VALUE, null)).isEmpty();
+    }
+
+    @Test
+    public void 콜드_세그먼트로_옮긴_내역도_이어서_조회한다(@TempDir Path directory) throws InterruptedException {
+        // Given
+        ColdHistorySegments coldHistorySegments = new ColdHistorySegments(directory, Duration.ofDays(3), Duration.ofHours(1));
+        PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), PointJournal.disabled(), coldHistorySegments);
+        for (long time = 1; time <= 6; time++) {
+            store.insert(1L, time, time % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, time * 1_000L);
+        }
+
+        // When
+        long moved = store.compact(4_500L);
+
+        // Then
+        assertThat(moved).isEqualTo(4L);
+        assertThat(coldHistorySegments.segmentCount()).isEqualTo(1);
+        assertThat(store.selectAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(store.selectByUserIdAndTime(1L, 2_000L, 6_000L, TransactionType.USE))
+                .extracting(PointHistory::amount).containsExactly(2L, 4L);
+
+        PointHistoryPage first = store.selectPageByUserId(1L, null, 3);
+        PointHistoryPage second = store.selectPageByUserId(1L, first.nextCursor(), 3);
+        assertThat(first.histories()).extracting(PointHistory::amount).containsExactly(1L, 2L, 3L);
+        assertThat(second.histories()).extracting(PointHistory::amount).containsExactly(4L, 5L, 6L);
+        assertThat(second.nextCursor()).isNull();
+        store.close();
+        coldHistorySegments.close();
+    }
+
+    @Test
+    public void 시각_범위와_유형으로_거른_내역을_콜드_세그먼트까지_이어서_페이지로_나눈다(@TempDir Path directory) throws InterruptedException {
+        // Given
+        ColdHistorySegments coldHistorySegments = new ColdHistorySegments(directory, Duration.ofDays(3), Duration.ofHours(1));
+        PointHistoryStore store = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L), PointJournal.disabled(), coldHistorySegments);
+        for (long time = 1; time <= 10; time++) {
+            store.insert(1L, time, time % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, time * 1_000L);
+        }
+        store.compact(4_500L);
+
+        // When
+        PointHistoryPage first = store.selectPageByUserId(1L, null, 2, 2_000L, 10_000L, TransactionType.USE);
+        PointHistoryPage second = store.selectPageByUserId(1L, first.nextCursor(), 2, 2_000L, 10_000L, TransactionType.USE);
+
+        // Then
+        assertThat(first.histories()).extracting(PointHistory::amount).containsExactly(2L, 4L);
+        assertThat(second.histories()).extracting(PointHistory::amount).containsExactly(6L, 8L);
+        assertThat(second.nextCursor()).isNull();
+        store.close();
+        coldHistorySegments.close();
+    }
+
+    private static long segmentCount(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".journal")).count();
+        }
+    }
+}
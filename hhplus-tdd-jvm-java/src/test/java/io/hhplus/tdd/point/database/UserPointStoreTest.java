@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point.database;
+
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class UserPointStoreTest {
+
+    @Test
+    public void 조회한_잔액은_캐시에서_다시_조회한다() throws InterruptedException {
+        // Given
+        AtomicInteger tableReads = new AtomicInteger();
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(0L) {
+            @Override
+            public UserPoint selectById(Long id) throws InterruptedException {
+                tableReads.incrementAndGet();
+                return super.selectById(id);
+            }
+        });
+
+        // When
+        userPointStore.selectById(1L);
+        userPointStore.selectById(1L);
+
+        // Then
+        assertThat(tableReads.get()).isEqualTo(1);
+        assertThat(userPointStore.cacheStats().hits()).isEqualTo(1L);
+        assertThat(userPointStore.cacheStats().misses()).isEqualTo(1L);
+    }
+
+    @Test
+    public void 저장한_잔액은_바로_조회된다() throws InterruptedException {
+        // Given
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(0L));
+        userPointStore.selectById(1L);
+
+        // When
+        userPointStore.insertOrUpdate(1L, 500L);
+
+        // Then
+        assertThat(userPointStore.selectById(1L).point()).isEqualTo(500L);
+    }
+
+    @Test
+    public void 저장_전에_시작된_느린_조회는_캐시를_덮어쓰지_않는다() throws Exception {
+        // Given
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch writeDone = new CountDownLatch(1);
+        FixedLatencyUserPointTable table = new FixedLatencyUserPointTable(0L) {
+            @Override
+            public UserPoint selectById(Long id) throws InterruptedException {
+                UserPoint stale = super.selectById(id);
+                readStarted.countDown();
+                writeDone.await();
+                return stale;
+            }
+        };
+        UserPointStore userPointStore = new UserPointStore(table, new HedgedUserPointReader(table), 100, Duration.ZERO);
+
+        // When
+        CompletableFuture<UserPoint> slowRead = CompletableFuture.supplyAsync(() -> {
+            try {
+                return userPointStore.selectById(1L);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        readStarted.await();
+        userPointStore.insertOrUpdate(1L, 500L);
+        writeDone.countDown();
+
+        // Then
+        assertThat(slowRead.join().point()).isZero();
+        assertThat(userPointStore.selectById(1L).point()).isEqualTo(500L);
+    }
+
+    @Test
+    public void 사용자_락을_얻은_뒤에도_테이블_잠금은_같은_마감_시각까지만_기다린다() throws Exception {
+        // Given
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 동시 호출에 안전하지 않은 원본 테이블이라 저장소가 테이블 잠금으로 직렬화합니다.
+        UserPointTable table = new UserPointTable() {
+            @Override
+            public UserPoint insertOrUpdate(Long id, Long amount) throws InterruptedException {
+                writing.countDown();
+                release.await();
+                return UserPoint.of(id, amount);
+            }
+        };
+        UserPointStore userPointStore = new UserPointStore(table);
+        UserLockManager userLockManager = new UserLockManager(Duration.ofMillis(100));
+        CompletableFuture<UserPoint> blockingWrite = CompletableFuture.supplyAsync(() -> {
+            try {
+                return userPointStore.insertOrUpdate(1L, 100L);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        writing.await();
+
+        // When
+        long startedAt = System.nanoTime();
+        Throwable thrown = catchThrowable(
+                () -> userLockManager.executeWithLock(2L, () -> userPointStore.insertOrUpdate(2L, 100L)));
+        long waitedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        release.countDown();
+
+        // Then
+        assertThat(thrown).isInstanceOf(PointException.class).hasMessage(ErrorCode.USER_LOCK_TIMEOUT.getMessage());
+        assertThat(waitedMillis).isLessThan(1_000L);
+        assertThat(blockingWrite.join().point()).isEqualTo(100L);
+    }
+}
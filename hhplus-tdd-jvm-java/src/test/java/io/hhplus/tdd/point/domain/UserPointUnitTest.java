@@ -54,4 +54,18 @@ class UserPointUnitTest {
                 .hasMessage(ErrorCode.INCORRECT_AMOUNT.getMessage(userPoint.point()));
     }
 
+    @Test
+    public void 객체_없이_잔액만_계산() {
+        // When
+        long charged = UserPoint.charge(1000L, 500L);
+        long used = UserPoint.use(1000L, 500L);
+
+        // Then
+        assertThat(charged).isEqualTo(1500L);
+        assertThat(used).isEqualTo(500L);
+        assertThatThrownBy(() -> UserPoint.use(1000L, 2000L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage(ErrorCode.INCORRECT_AMOUNT.getMessage(1000L));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointJournalTest {
+
+    private static final int SEGMENT_BYTES = PointJournal.RECORD_BYTES * 4;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void 다시_열면_기록한_내역과_잔액을_복구한다() throws InterruptedException {
+        // Given
+        try (PointJournal journal = open(PointJournal.SyncMode.GROUP)) {
+            journal.append(new PointHistory(1L, 1L, TransactionType.CHARGE, 1_000L, 10L));
+            journal.append(new PointHistory(2L, 2L, TransactionType.CHARGE, 500L, 20L));
+            journal.append(new PointHistory(3L, 1L, TransactionType.USE, 300L, 30L));
+        }
+
+        // When
+        List<JournalEntry> entries = new ArrayList<>();
+        try (PointJournal journal = open(PointJournal.SyncMode.GROUP)) {
+            journal.replay(entries::add);
+
+            // Then
+            assertThat(journal.recoveredEntries()).isEqualTo(3L);
+            assertThat(journal.lastHistoryId()).isEqualTo(3L);
+            assertThat(journal.recoveredBalances())
+                    .containsEntry(1L, UserPoint.of(1L, 700L, 30L))
+                    .containsEntry(2L, UserPoint.of(2L, 500L, 20L));
+        }
+        assertThat(entries).extracting(JournalEntry::historyId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    public void 세그먼트가_가득_차면_다음_세그먼트에_이어서_기록한다() throws IOException, InterruptedException {
+        // Given
+        try (PointJournal journal = open(PointJournal.SyncMode.NONE)) {
+            for (long id = 1; id <= 10; id++) {
+                journal.append(new PointHistory(id, 1L, TransactionType.CHARGE, 1L, id));
+            }
+        }
+
+        // When
+        try (PointJournal journal = open(PointJournal.SyncMode.NONE)) {
+            // Then
+            assertThat(journal.recoveredEntries()).isEqualTo(10L);
+            assertThat(journal.recoveredBalances().get(1L).point()).isEqualTo(10L);
+        }
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments.count()).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    public void 잘린_마지막_기록은_버리고_그_자리부터_다시_기록한다() throws IOException, InterruptedException {
+        // Given
+        try (PointJournal journal = open(PointJournal.SyncMode.NONE)) {
+            journal.append(new PointHistory(1L, 1L, TransactionType.CHARGE, 100L, 10L));
+        }
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory)) {
+            segment = segments.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, 2L), PointJournal.RECORD_BYTES);
+        }
+
+        // When
+        try (PointJournal journal = open(PointJournal.SyncMode.NONE)) {
+            assertThat(journal.recoveredEntries()).isEqualTo(1L);
+            journal.append(new PointHistory(2L, 1L, TransactionType.CHARGE, 50L, 20L));
+        }
+
+        // Then
+        try (PointJournal journal = open(PointJournal.SyncMode.NONE)) {
+            assertThat(journal.recoveredEntries()).isEqualTo(2L);
+            assertThat(journal.recoveredBalances().get(1L).point()).isEqualTo(150L);
+        }
+    }
+
+    private PointJournal open(PointJournal.SyncMode syncMode) {
+        return new PointJournal(directory, SEGMENT_BYTES, syncMode, Duration.ofMillis(1));
+    }
+}
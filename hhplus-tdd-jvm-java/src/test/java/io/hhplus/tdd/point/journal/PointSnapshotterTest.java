@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointSnapshotterTest {
+
+    private static final int SEGMENT_BYTES = PointJournal.RECORD_BYTES * 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void 시작_시_스냅숏_이후의_기록만_재생한다() throws InterruptedException {
+        // Given
+        try (PointJournal journal = open()) {
+            PointSnapshotter snapshotter = new PointSnapshotter(journal);
+            for (long id = 1; id <= 20; id++) {
+                journal.append(new PointHistory(id, id % 2 + 1, TransactionType.CHARGE, 10L, id));
+            }
+            snapshotter.snapshot();
+            journal.append(new PointHistory(21L, 1L, TransactionType.USE, 5L, 21L));
+            journal.append(new PointHistory(22L, 3L, TransactionType.CHARGE, 7L, 22L));
+        }
+
+        // When
+        try (PointJournal journal = open()) {
+            // Then
+            assertThat(journal.recoveredEntries()).isEqualTo(2L);
+            assertThat(journal.lastHistoryId()).isEqualTo(22L);
+            assertThat(journal.recoveredBalances().get(1L).point()).isEqualTo(95L);
+            assertThat(journal.recoveredBalances().get(2L).point()).isEqualTo(100L);
+            assertThat(journal.recoveredBalances().get(3L).point()).isEqualTo(7L);
+        }
+    }
+
+    @Test
+    public void 손상된_스냅숏은_건너뛰고_이전_상태에서_복구한다() throws IOException, InterruptedException {
+        // Given
+        try (PointJournal journal = open()) {
+            PointSnapshotter snapshotter = new PointSnapshotter(journal);
+            journal.append(new PointHistory(1L, 1L, TransactionType.CHARGE, 100L, 1L));
+            snapshotter.snapshot();
+            journal.append(new PointHistory(2L, 1L, TransactionType.CHARGE, 50L, 2L));
+            snapshotter.snapshot();
+        }
+        Path latest;
+        try (Stream<Path> files = Files.list(directory)) {
+            latest = files.filter(path -> path.toString().endsWith(".snap")).sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        Files.write(latest, new byte[]{1, 2, 3});
+
+        // When
+        try (PointJournal journal = open()) {
+            // Then
+            assertThat(journal.recoveredEntries()).isEqualTo(1L);
+            assertThat(journal.recoveredBalances().get(1L).point()).isEqualTo(150L);
+        }
+    }
+
+    private PointJournal open() {
+        return new PointJournal(directory, SEGMENT_BYTES, PointJournal.SyncMode.NONE, Duration.ZERO);
+    }
+}
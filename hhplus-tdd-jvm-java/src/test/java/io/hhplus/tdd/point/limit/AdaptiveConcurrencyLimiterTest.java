@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    public void 한도만큼_처리_중이면_새_요청을_거절한다() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, Duration.ofMillis(100), 0.5);
+
+        // When
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.stats().inFlight()).isEqualTo(2);
+        assertThat(limiter.stats().accepted()).isEqualTo(2L);
+        assertThat(limiter.stats().shed()).isEqualTo(1L);
+    }
+
+    @Test
+    public void 목표_지연을_넘기면_한도를_줄이고_최소_한도_아래로는_줄이지_않는다() {
+        // Given
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, Duration.ofMillis(100), 0.5, clock::get);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            // 앞 요청이 끝난 뒤에 시작한 요청이 느리게 끝납니다.
+            limiter.tryAcquire();
+            clock.addAndGet(SLOW);
+            limiter.release(SLOW);
+        }
+
+        // Then
+        assertThat(limiter.stats().limit()).isEqualTo(2);
+    }
+
+    @Test
+    public void 같은_지연_구간을_겪은_요청들이_한꺼번에_느리게_끝나도_한도는_한_단계만_줄인다() {
+        // Given
+        AtomicLong clock = new AtomicLong(SLOW);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 1, 200, Duration.ofMillis(100), 0.9, clock::get);
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+        }
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.release(SLOW);
+        }
+        int afterBurst = limiter.stats().limit();
+        limiter.tryAcquire();
+        clock.addAndGet(SLOW);
+        limiter.release(SLOW);
+
+        // Then
+        assertThat(afterBurst).isEqualTo(90);
+        assertThat(limiter.stats().limit()).isEqualTo(81);
+    }
+
+    @Test
+    public void 한도를_충분히_사용하며_목표_지연_이내로_응답하면_한도를_늘린다() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, Duration.ofMillis(100), 0.5);
+
+        // When
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 4; i++) {
+                limiter.tryAcquire();
+            }
+            for (int i = 0; i < 4; i++) {
+                limiter.release(FAST);
+            }
+        }
+
+        // Then
+        assertThat(limiter.stats().limit()).isGreaterThan(4);
+        assertThat(limiter.stats().inFlight()).isZero();
+    }
+}
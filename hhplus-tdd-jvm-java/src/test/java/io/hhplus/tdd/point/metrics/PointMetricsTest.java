@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.database.ColdHistorySegments;
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.engine.LockingPointEngine;
+import io.hhplus.tdd.point.service.engine.PointWriter;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        UserPointStore userPointStore = new UserPointStore(new TimedUserPointTable(new FixedLatencyUserPointTable(0L), pointMetrics));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(
+                new TimedPointHistoryTable(new FixedLatencyPointHistoryTable(0L), pointMetrics),
+                PointJournal.disabled(),
+                ColdHistorySegments.disabled(),
+                pointMetrics
+        );
+        LockingPointEngine pointEngine = new LockingPointEngine(
+                userPointStore,
+                new PointWriter(userPointStore, pointHistoryStore),
+                new UserLockManager(Duration.ZERO, pointMetrics)
+        );
+        pointService = new PointService(userPointStore, pointHistoryStore, pointEngine, new IdempotencyRegistry(), pointMetrics);
+    }
+
+    @Test
+    public void 충전_사용_건수와_실패_사유를_집계한다() throws Exception {
+        // When
+        pointService.chargePoint(1L, 1000L);
+        pointService.usePoint(1L, 300L);
+        assertThatThrownBy(() -> pointService.usePoint(1L, 5000L)).isInstanceOf(RuntimeException.class);
+
+        // Then
+        assertThat(meterRegistry.get("point.transactions").tags("type", "charge", "result", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.transactions").tags("type", "use", "result", "success").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.transactions").tags("type", "use", "result", "failure", "reason", "RuntimeException").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.lock.wait").timer().count()).isEqualTo(3L);
+    }
+
+    @Test
+    public void 테이블_호출_시간과_사용자별_내역_수를_기록한다() throws Exception {
+        // When
+        pointService.chargePoint(1L, 100L);
+        pointService.chargePoint(1L, 100L);
+        pointService.chargePoint(2L, 100L);
+
+        // Then
+        assertThat(meterRegistry.get("point.table.calls").tags("table", "user_point", "operation", "insert_or_update").timer().count()).isEqualTo(3L);
+        assertThat(meterRegistry.get("point.table.calls").tags("table", "point_history", "operation", "insert").timer().count()).isEqualTo(3L);
+        assertThat(meterRegistry.get("point.history.size").summary().count()).isEqualTo(3L);
+        assertThat(meterRegistry.get("point.history.size").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void PointException_의_실패_사유는_ErrorCode_이름이다() {
+        // Given
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+        // When
+        pointMetrics.recordFailure(TransactionType.CHARGE, new PointException(ErrorCode.USER_LOCK_TIMEOUT));
+
+        // Then
+        assertThat(meterRegistry.get("point.transactions").tags("reason", "USER_LOCK_TIMEOUT").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointAsyncServiceTest {
+
+    private static final long TABLE_LATENCY_MILLIS = 200L;
+
+    private PointAsyncService pointAsyncService;
+
+    @AfterEach
+    void tearDown() {
+        pointAsyncService.close();
+    }
+
+    @Test
+    public void 호출한_스레드는_테이블_호출을_기다리지_않는다() throws Exception {
+        // Given
+        pointAsyncService = new PointAsyncService(pointService(), 4, 16);
+
+        // When
+        CompletableFuture<UserPoint> charged = pointAsyncService.chargePoint(1L, 1000L, null);
+
+        // Then
+        assertThat(charged).isNotDone();
+        assertThat(charged.get().point()).isEqualTo(1000L);
+        assertThat(pointAsyncService.usePoint(1L, 400L, null).get().point()).isEqualTo(600L);
+        assertThat(pointAsyncService.checkPoint(1L).get().point()).isEqualTo(600L);
+    }
+
+    @Test
+    public void 실패한_요청은_원래_예외로_완료된다() {
+        // Given
+        pointAsyncService = new PointAsyncService(pointService(), 4, 16);
+
+        // When
+        CompletableFuture<UserPoint> used = pointAsyncService.usePoint(1L, 500L, null);
+
+        // Then
+        assertThatThrownBy(used::get)
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage(ErrorCode.INCORRECT_AMOUNT.getMessage());
+    }
+
+    @Test
+    public void 대기열이_가득_차면_503_으로_거절한다() throws Exception {
+        // Given
+        pointAsyncService = new PointAsyncService(pointService(), 1, 1);
+
+        // When
+        CompletableFuture<UserPoint> running = pointAsyncService.chargePoint(1L, 100L, null);
+        CompletableFuture<UserPoint> queued = pointAsyncService.chargePoint(2L, 100L, null);
+        CompletableFuture<UserPoint> rejected = pointAsyncService.chargePoint(3L, 100L, null);
+
+        // Then
+        assertThatThrownBy(rejected::get)
+                .cause()
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.TOO_MANY_CONCURRENT_REQUESTS.getMessage());
+        assertThat(running.get().point()).isEqualTo(100L);
+        assertThat(queued.get().point()).isEqualTo(100L);
+        assertThat(pointAsyncService.rejections()).isEqualTo(1L);
+    }
+
+    @Test
+    public void 가상_스레드는_세마포어로_동시_실행_수를_제한하고_대기_한도를_넘으면_503_으로_거절한다() throws Exception {
+        // Given
+        pointAsyncService = new PointAsyncService(pointService(), 1, 1, true);
+
+        // When
+        CompletableFuture<UserPoint> running = pointAsyncService.chargePoint(1L, 100L, null);
+        CompletableFuture<UserPoint> queued = pointAsyncService.chargePoint(2L, 100L, null);
+        CompletableFuture<UserPoint> rejected = pointAsyncService.chargePoint(3L, 100L, null);
+
+        // Then
+        assertThatThrownBy(rejected::get)
+                .cause()
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.TOO_MANY_CONCURRENT_REQUESTS.getMessage());
+        assertThat(pointAsyncService.active()).isLessThanOrEqualTo(1);
+        assertThat(running.get().point()).isEqualTo(100L);
+        assertThat(queued.get().point()).isEqualTo(100L);
+        assertThat(pointAsyncService.rejections()).isEqualTo(1L);
+    }
+
+    private static PointService pointService() {
+        return new PointService(new FixedLatencyUserPointTable(TABLE_LATENCY_MILLIS), new FixedLatencyPointHistoryTable(TABLE_LATENCY_MILLIS));
+    }
+}
@@ -0,0 +1,158 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.dto.response.PointBatchResponse;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.engine.LockingPointEngine;
+import io.hhplus.tdd.point.service.engine.PointWriter;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointBatchServiceTest {
+
+    private static final long TABLE_LATENCY_MILLIS = 20L;
+
+    private PointBatchService pointBatchService;
+
+    @BeforeEach
+    void setUp() {
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(TABLE_LATENCY_MILLIS));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(TABLE_LATENCY_MILLIS));
+        LockingPointEngine pointEngine = new LockingPointEngine(userPointStore, new PointWriter(userPointStore, pointHistoryStore), new UserLockManager());
+        PointService pointService = new PointService(userPointStore, pointHistoryStore, pointEngine, new IdempotencyRegistry());
+        pointBatchService = new PointBatchService(pointService, 16, 32, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointBatchService.close();
+    }
+
+    @Test
+    public void 같은_사용자의_명령은_요청_순서대로_처리된다() throws InterruptedException {
+        // Given
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, TransactionType.CHARGE, 1000L),
+                new PointCommand(2L, TransactionType.CHARGE, 300L),
+                new PointCommand(1L, TransactionType.USE, 400L),
+                new PointCommand(1L, TransactionType.CHARGE, 100L)
+        );
+
+        // When
+        List<PointBatchResponse> responses = pointBatchService.execute(commands);
+
+        // Then
+        assertThat(responses).extracting(PointBatchResponse::userId).containsExactly(1L, 2L, 1L, 1L);
+        assertThat(responses).extracting(response -> response.userPoint().point()).containsExactly(1000L, 300L, 600L, 700L);
+    }
+
+    @Test
+    public void 실패한_명령은_해당_항목에만_결과로_남는다() throws InterruptedException {
+        // Given
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, TransactionType.USE, 500L),
+                new PointCommand(1L, TransactionType.CHARGE, 500L)
+        );
+
+        // When
+        List<PointBatchResponse> responses = pointBatchService.execute(commands);
+
+        // Then
+        assertThat(responses.get(0).success()).isFalse();
+        assertThat(responses.get(0).message()).isNotBlank();
+        assertThat(responses.get(1).success()).isTrue();
+        assertThat(responses.get(1).userPoint().point()).isEqualTo(500L);
+    }
+
+    @Test
+    public void 값이_빠진_명령은_처리하지_않고_해당_항목에_오류_코드의_메시지를_남긴다() throws InterruptedException {
+        // Given
+        List<PointCommand> commands = Arrays.asList(
+                new PointCommand(null, TransactionType.CHARGE, 100L),
+                new PointCommand(1L, null, 100L),
+                new PointCommand(1L, TransactionType.CHARGE, null),
+                new PointCommand(1L, TransactionType.CHARGE, 300L)
+        );
+
+        // When
+        List<PointBatchResponse> responses = pointBatchService.execute(commands);
+
+        // Then
+        assertThat(responses).extracting(PointBatchResponse::success).containsExactly(false, false, false, true);
+        assertThat(responses).extracting(PointBatchResponse::message).containsExactly(
+                ErrorCode.INCORRECT_USER_ID.getMessage(),
+                ErrorCode.INCORRECT_TRANSACTION_TYPE.getMessage(),
+                ErrorCode.INCORRECT_AMOUNT.getMessage(),
+                null
+        );
+        assertThat(responses.get(3).userPoint().point()).isEqualTo(300L);
+    }
+
+    @Test
+    public void 서로_다른_사용자의_명령은_병렬로_처리된다() throws InterruptedException {
+        // Given
+        int userCount = 16;
+        List<PointCommand> commands = new ArrayList<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            commands.add(new PointCommand(userId, TransactionType.CHARGE, 100L));
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        pointBatchService.execute(commands);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // Then
+        // 한 명령은 테이블 3번 왕복(약 60ms), 순차 처리였다면 약 960ms 가 걸린다.
+        assertThat(elapsedMillis).isLessThan(TABLE_LATENCY_MILLIS * 3 * userCount / 4);
+    }
+
+    @Test
+    public void 최대_명령_수를_넘는_일괄_요청은_처리하지_않는다() {
+        // Given
+        List<PointCommand> commands = new ArrayList<>();
+        for (long userId = 1; userId <= 33; userId++) {
+            commands.add(new PointCommand(userId, TransactionType.CHARGE, 100L));
+        }
+
+        // Then
+        assertThatThrownBy(() -> pointBatchService.execute(commands))
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.BATCH_TOO_LARGE.getMessage());
+    }
+
+    @Test
+    public void 같은_멱등_키로_다시_보낸_일괄_요청은_다시_처리되지_않는다() throws InterruptedException {
+        // Given
+        List<PointCommand> commands = List.of(
+                new PointCommand(1L, TransactionType.CHARGE, 1000L),
+                new PointCommand(1L, TransactionType.USE, 400L)
+        );
+        pointBatchService.execute(commands, "batch-1");
+
+        // When
+        List<PointBatchResponse> retried = pointBatchService.execute(commands, "batch-1");
+
+        // Then
+        assertThat(retried).extracting(response -> response.userPoint().point()).containsExactly(1000L, 600L);
+        assertThat(pointBatchService.execute(List.of(new PointCommand(1L, TransactionType.CHARGE, 1L))))
+                .extracting(response -> response.userPoint().point())
+                .containsExactly(601L);
+    }
+}
@@ -0,0 +1,172 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.PointHistoryTable;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.database.UserPointTable;
+import io.hhplus.tdd.point.database.VersionedUserPointStore;
+import io.hhplus.tdd.point.dto.PointDto;
+import io.hhplus.tdd.point.service.engine.LockingPointEngine;
+import io.hhplus.tdd.point.service.engine.MailboxPointEngine;
+import io.hhplus.tdd.point.service.engine.OptimisticPointEngine;
+import io.hhplus.tdd.point.service.engine.PartitionedPointEngine;
+import io.hhplus.tdd.point.service.engine.PointEngine;
+import io.hhplus.tdd.point.service.engine.PointWriter;
+import io.hhplus.tdd.point.service.idempotency.IdempotencyRegistry;
+import io.hhplus.tdd.point.service.lock.UserLockManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 point.engine 구현이 같은 동시성 기준을 만족하는지 확인합니다.
+ */
+public class PointServiceConcurrencyTest {
+
+    private static final long TABLE_LATENCY_MILLIS = 20L;
+    private static final int OPERATIONS_PER_USER = 5;
+    private static final int ENGINE_THREADS = 16;
+
+    private PointService pointService;
+    private PointEngine pointEngine;
+    private PointHistoryStore pointHistoryStore;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (pointEngine instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    // 사용자별로 순차 처리하므로 사용자 수가 늘어나도 처리 시간은 한 명일 때와 비슷해야 한다.
+    // 전역 락이었다면 8명의 처리 시간은 한 명일 때의 8배가 된다.
+    @ParameterizedTest
+    @ValueSource(strings = {"lock", "mailbox", "partitioned", "optimistic"})
+    @DisplayName("[사용자별 순차 처리 동시성 테스트] - 서로 다른 사용자의 충전은 병렬로 처리된다")
+    public void 서로_다른_사용자의_충전은_병렬로_처리된다(String engine) throws Exception {
+        // Given
+        setUp(engine);
+        int userCount = 8;
+        long singleUserElapsed = chargeConcurrently(1, 100L);
+
+        // When
+        long multiUserElapsed = chargeConcurrently(userCount, 200L);
+
+        // Then
+        assertThat(multiUserElapsed).isLessThan(singleUserElapsed * 2);
+        for (long userId = 200L; userId < 200L + userCount; userId++) {
+            assertThat(pointService.checkPoint(userId).point()).isEqualTo(100L * OPERATIONS_PER_USER);
+        }
+    }
+
+    // 1000원 충전 후 300원 사용 5번을 동시에 요청하면 3번만 성공하고 잔액은 100원이어야 한다.
+    @ParameterizedTest
+    @ValueSource(strings = {"lock", "mailbox", "partitioned", "optimistic"})
+    @DisplayName("[같은 사용자 동시성 테스트] - 동시에 사용해도 잔액이 음수가 되거나 사용이 유실되지 않는다")
+    public void 같은_사용자가_동시에_사용해도_잔액이_유실되지_않는다(String engine) throws Exception {
+        // Given
+        setUp(engine);
+        long userId = 300L;
+        pointService.chargePoint(PointDto.of(userId, 1000L));
+        int taskCount = 5;
+        AtomicInteger successCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(taskCount);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        // When
+        for (int i = 0; i < taskCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.usePoint(PointDto.of(userId, 300L));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    // 잔액 부족으로 실패하는 요청
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(3);
+        assertThat(pointService.checkPoint(userId).point()).isEqualTo(100L);
+        assertThat(pointHistoryStore.selectAllByUserId(userId)).hasSize(1 + 3);
+    }
+
+    // 원본 테이블은 HashMap/ArrayList 와 Long cursor 를 잠금 없이 사용하므로, 사용자가 달라도 테이블 호출이 겹치면
+    // 잔액이 유실되거나 내역 id 가 중복될 수 있다. 저장소가 테이블 호출을 직렬화하는지 원본 테이블로 확인한다.
+    @Test
+    @DisplayName("[원본 테이블 동시성 테스트] - 서로 다른 사용자가 동시에 충전해도 잔액이 유실되지 않고 내역 id 가 중복되지 않는다")
+    public void 원본_테이블에서_서로_다른_사용자가_동시에_충전해도_잔액과_내역_id_가_보존된다() throws Exception {
+        // Given
+        pointService = new PointService(new UserPointTable(), new PointHistoryTable());
+        int userCount = 8;
+
+        // When
+        chargeConcurrently(userCount, 400L);
+
+        // Then
+        List<Long> historyIds = new ArrayList<>();
+        for (long userId = 400L; userId < 400L + userCount; userId++) {
+            assertThat(pointService.checkPoint(userId).point()).isEqualTo(100L * OPERATIONS_PER_USER);
+            pointService.checkPointHistory(userId).forEach(history -> historyIds.add(history.id()));
+        }
+        assertThat(historyIds).hasSize(userCount * OPERATIONS_PER_USER).doesNotHaveDuplicates();
+    }
+
+    private void setUp(String engine) {
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(TABLE_LATENCY_MILLIS));
+        pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(TABLE_LATENCY_MILLIS));
+        PointWriter pointWriter = new PointWriter(userPointStore, pointHistoryStore);
+        pointEngine = switch (engine) {
+            case "lock" -> new LockingPointEngine(userPointStore, pointWriter, new UserLockManager());
+            case "mailbox" -> new MailboxPointEngine(userPointStore, pointHistoryStore, ENGINE_THREADS);
+            case "partitioned" -> new PartitionedPointEngine(userPointStore, pointWriter, ENGINE_THREADS);
+            // 같은 사용자 요청 5건이 모두 끝날 때까지 재시도할 수 있도록 시도 횟수를 넉넉히 줍니다.
+            case "optimistic" -> new OptimisticPointEngine(new VersionedUserPointStore(userPointStore), pointWriter, 100, Duration.ofMillis(1), Duration.ofMillis(20));
+            default -> throw new IllegalArgumentException(engine);
+        };
+        pointService = new PointService(userPointStore, pointHistoryStore, pointEngine, new IdempotencyRegistry());
+    }
+
+    private long chargeConcurrently(int userCount, long firstUserId) throws InterruptedException {
+        int taskCount = userCount * OPERATIONS_PER_USER;
+        ExecutorService executorService = Executors.newFixedThreadPool(taskCount);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < taskCount; i++) {
+            PointDto pointDto = PointDto.of(firstUserId + i % userCount, 100L);
+            executorService.submit(() -> {
+                try {
+                    pointService.chargePoint(pointDto);
+                } catch (Exception e) {
+                    // 실패한 충전은 잔액 검증에서 드러납니다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - startedAt;
+
+        executorService.shutdown();
+        return elapsed;
+    }
+}
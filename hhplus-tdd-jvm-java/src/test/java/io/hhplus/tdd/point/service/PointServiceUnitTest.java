@@ -7,9 +7,11 @@ import io.hhplus.tdd.point.domain.UserPoint;
 import io.hhplus.tdd.point.domain.constant.TransactionType;
 import io.hhplus.tdd.point.dto.PointDto;
 import io.hhplus.tdd.point.dto.request.PointRequest;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -18,6 +20,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -31,8 +34,13 @@ public class PointServiceUnitTest {
     @Mock
     PointHistoryTable pointHistoryTable;
 
-    @InjectMocks
     PointService pointService;
+
+    @BeforeEach
+    void setUp() {
+        pointService = new PointService(userPointTable, pointHistoryTable);
+    }
+
     @Test
     public void 특정유저_포인트_조회() throws InterruptedException {
         // Given
@@ -58,6 +66,14 @@ public class PointServiceUnitTest {
                 .isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    public void 내역_조회_시작시각이_종료시각보다_늦으면_예외() {
+        // Then
+        assertThatThrownBy(() -> pointService.checkPointHistory(1L, 2_000L, 1_000L, null))
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.INCORRECT_HISTORY_RANGE.getMessage());
+    }
+
     @Test
     public void 포인트_충전시_포인트테이블_금액확인() throws Exception {
         // Given
@@ -65,6 +81,7 @@ public class PointServiceUnitTest {
 
         // When
         when(userPointTable.selectById(anyLong())).thenReturn(new UserPoint(pointDto.userId(), 0L, System.currentTimeMillis()));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(new PointHistory(1L, pointDto.userId(), TransactionType.CHARGE, pointDto.amount(), System.currentTimeMillis()));
         when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenReturn(new UserPoint(pointDto.userId(), pointDto.amount(), eq(System.currentTimeMillis())));
 
         // Then
@@ -79,6 +96,7 @@ public class PointServiceUnitTest {
 
         // When
         when(userPointTable.selectById(anyLong())).thenReturn(new UserPoint(pointDto.userId(), 0L, System.currentTimeMillis()));
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenReturn(new PointHistory(1L, pointDto.userId(), TransactionType.CHARGE, pointDto.amount(), System.currentTimeMillis()));
         when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenReturn(new UserPoint(pointDto.userId(), pointDto.amount(), eq(System.currentTimeMillis())));
 
         // Then
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.database.ConcurrentPointHistoryTable;
+import io.hhplus.tdd.point.database.ConcurrentUserPointTable;
+import io.hhplus.tdd.point.database.DelegatingTable;
+import io.hhplus.tdd.point.database.PointHistoryTable;
+import io.hhplus.tdd.point.database.UserPointTable;
+import io.hhplus.tdd.point.dto.PointDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 Spring 구성(운영용 테이블과 무작위 지연)에서 서로 다른 사용자의 충전이 병렬로 처리되는지 확인합니다.
+ */
+@SpringBootTest
+public class PointServiceWiringConcurrencyTest {
+
+    private static final int OPERATIONS_PER_USER = 5;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private UserPointTable userPointTable;
+
+    @Autowired
+    private PointHistoryTable pointHistoryTable;
+
+    // 테이블 호출이 직렬화된다면 8명의 처리 시간은 한 명일 때의 약 8배가 된다.
+    // 무작위 지연이라 사용자별 처리 시간이 흩어지므로 여유를 두어 4배 미만인지 확인한다.
+    @Test
+    @DisplayName("[기본 구성 동시성 테스트] - 운영용 테이블에서 서로 다른 사용자의 충전은 병렬로 처리된다")
+    public void 기본_구성에서_서로_다른_사용자의_충전은_병렬로_처리된다() throws Exception {
+        // Given
+        int userCount = 8;
+        long singleUserElapsed = chargeConcurrently(1, 1_000L);
+
+        // When
+        long multiUserElapsed = chargeConcurrently(userCount, 2_000L);
+
+        // Then
+        assertThat(((DelegatingTable) userPointTable).delegate()).isInstanceOf(ConcurrentUserPointTable.class);
+        assertThat(((DelegatingTable) pointHistoryTable).delegate()).isInstanceOf(ConcurrentPointHistoryTable.class);
+        assertThat(multiUserElapsed).isLessThan(singleUserElapsed * userCount / 2);
+        for (long userId = 2_000L; userId < 2_000L + userCount; userId++) {
+            assertThat(pointService.checkPoint(userId).point()).isEqualTo(100L * OPERATIONS_PER_USER);
+        }
+    }
+
+    private long chargeConcurrently(int userCount, long firstUserId) throws InterruptedException {
+        int taskCount = userCount * OPERATIONS_PER_USER;
+        ExecutorService executorService = Executors.newFixedThreadPool(taskCount);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < taskCount; i++) {
+            PointDto pointDto = PointDto.of(firstUserId + i % userCount, 100L);
+            executorService.submit(() -> {
+                try {
+                    pointService.chargePoint(pointDto);
+                } catch (Exception e) {
+                    // 실패한 충전은 잔액 검증에서 드러납니다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - startedAt;
+
+        executorService.shutdown();
+        return elapsed;
+    }
+}
@@ -0,0 +1,144 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailboxPointEngineTest {
+
+    private final AtomicInteger balanceWrites = new AtomicInteger();
+    private FixedLatencyPointHistoryTable pointHistoryTable;
+    private MailboxPointEngine mailboxPointEngine;
+
+    @BeforeEach
+    void setUp() {
+        FixedLatencyUserPointTable userPointTable = new FixedLatencyUserPointTable(50L) {
+            @Override
+            public UserPoint insertOrUpdate(Long id, Long amount) throws InterruptedException {
+                balanceWrites.incrementAndGet();
+                return super.insertOrUpdate(id, amount);
+            }
+        };
+        pointHistoryTable = new FixedLatencyPointHistoryTable(0L);
+        mailboxPointEngine = new MailboxPointEngine(new UserPointStore(userPointTable), new PointHistoryStore(pointHistoryTable), 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailboxPointEngine.close();
+    }
+
+    @Test
+    public void 몰려든_충전_요청은_잔액을_한번에_저장한다() throws Exception {
+        // Given
+        int commandCount = 10;
+
+        // When
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < commandCount; i++) {
+            results.add(mailboxPointEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L)));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        // Then
+        assertThat(mailboxPointEngine.execute(new PointCommand(1L, TransactionType.CHARGE, 0L)).point()).isEqualTo(1000L);
+        assertThat(balanceWrites.get()).isLessThan(commandCount);
+        assertThat(pointHistoryTable.selectAllByUserId(1L)).hasSize(commandCount + 1);
+    }
+
+    @Test
+    public void 각_요청은_도착_순서대로_적용된_중간_잔액을_받는다() {
+        // When
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(mailboxPointEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L)));
+        }
+
+        // Then
+        assertThat(results.stream().map(result -> result.join().point()).toList())
+                .containsExactly(100L, 200L, 300L);
+    }
+
+    @Test
+    public void 잔액이_부족한_요청만_실패하고_나머지는_처리된다() {
+        // When
+        CompletableFuture<UserPoint> charge = mailboxPointEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L));
+        CompletableFuture<UserPoint> overUse = mailboxPointEngine.submit(new PointCommand(1L, TransactionType.USE, 500L));
+        CompletableFuture<UserPoint> use = mailboxPointEngine.submit(new PointCommand(1L, TransactionType.USE, 50L));
+
+        // Then
+        assertThat(charge.join().point()).isEqualTo(100L);
+        assertThatThrownBy(overUse::join).isInstanceOf(CompletionException.class);
+        assertThat(use.join().point()).isEqualTo(50L);
+    }
+
+    @Test
+    public void 잔액_저장에_실패하면_내역을_남기지_않는다() {
+        // Given
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L));
+        MailboxPointEngine failingEngine = new MailboxPointEngine(new UserPointStore(new FixedLatencyUserPointTable(0L) {
+            @Override
+            public UserPoint insertOrUpdate(Long id, Long amount) {
+                throw new IllegalStateException("잔액 저장 실패");
+            }
+        }), pointHistoryStore, 1);
+
+        // When
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(failingEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L)));
+        }
+
+        // Then
+        results.forEach(result -> assertThatThrownBy(result::join).hasCauseInstanceOf(IllegalStateException.class));
+        assertThat(pointHistoryStore.selectAllByUserId(1L)).isEmpty();
+        failingEngine.close();
+    }
+
+    @Test
+    public void 내역_저장에_실패하면_잔액은_남은_내역과_일치한다() throws Exception {
+        // Given
+        AtomicInteger inserts = new AtomicInteger();
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L) {
+            @Override
+            public PointHistory insert(Long id, Long amount, TransactionType transactionType, Long updateMillis) throws InterruptedException {
+                if (inserts.incrementAndGet() == 2) {
+                    throw new IllegalStateException("내역 저장 실패");
+                }
+                return super.insert(id, amount, transactionType, updateMillis);
+            }
+        });
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(0L));
+        MailboxPointEngine failingEngine = new MailboxPointEngine(userPointStore, pointHistoryStore, 1);
+
+        // When
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(failingEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L)));
+        }
+        long succeeded = results.stream().filter(result -> !result.handle((userPoint, e) -> e != null).join()).count();
+
+        // Then
+        List<PointHistory> histories = pointHistoryStore.selectAllByUserId(1L);
+        assertThat(succeeded).isEqualTo(histories.size()).isLessThan(3);
+        assertThat(userPointStore.selectById(1L).point()).isEqualTo(histories.stream().mapToLong(PointHistory::amount).sum());
+        failingEngine.close();
+    }
+}
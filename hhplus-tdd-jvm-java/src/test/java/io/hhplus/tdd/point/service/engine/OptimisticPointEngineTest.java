@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.database.VersionedUserPoint;
+import io.hhplus.tdd.point.database.VersionedUserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OptimisticPointEngineTest {
+
+    private VersionedUserPointStore versionedUserPointStore;
+    private OptimisticPointEngine optimisticPointEngine;
+
+    @BeforeEach
+    void setUp() {
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(0L));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L));
+        versionedUserPointStore = new VersionedUserPointStore(userPointStore);
+        optimisticPointEngine = new OptimisticPointEngine(
+                versionedUserPointStore, new PointWriter(userPointStore, pointHistoryStore), 3, Duration.ofMillis(1), Duration.ofMillis(5));
+    }
+
+    @Test
+    public void 저장할_때마다_버전이_올라간다() throws Exception {
+        // Given
+        versionedUserPointStore.acquire(1L);
+
+        // When
+        optimisticPointEngine.execute(new PointCommand(1L, TransactionType.CHARGE, 100L));
+        optimisticPointEngine.execute(new PointCommand(1L, TransactionType.USE, 30L));
+
+        // Then
+        VersionedUserPoint current = versionedUserPointStore.read(1L);
+        assertThat(current.userPoint().point()).isEqualTo(70L);
+        assertThat(current.version()).isEqualTo(4L);
+        assertThat(optimisticPointEngine.stats().committed()).isEqualTo(2L);
+        versionedUserPointStore.release(1L);
+    }
+
+    @Test
+    public void 처리가_끝난_사용자의_버전_항목은_제거하고_다시_읽으면_테이블의_잔액으로_시작한다() throws Exception {
+        // When
+        for (long userId = 1; userId <= 1_000; userId++) {
+            optimisticPointEngine.execute(new PointCommand(userId, TransactionType.CHARGE, 100L));
+        }
+        optimisticPointEngine.execute(new PointCommand(1L, TransactionType.USE, 30L));
+
+        // Then
+        assertThat(versionedUserPointStore.trackedUsers()).isZero();
+        assertThat(versionedUserPointStore.read(1L).userPoint().point()).isEqualTo(70L);
+    }
+
+    @Test
+    public void 읽은_뒤_버전이_바뀌면_선점할_수_없다() throws Exception {
+        // Given
+        VersionedUserPoint stale = versionedUserPointStore.read(1L);
+        optimisticPointEngine.execute(new PointCommand(1L, TransactionType.CHARGE, 100L));
+
+        // Then
+        assertThat(versionedUserPointStore.tryClaim(stale)).isNull();
+    }
+
+    @Test
+    public void 다른_쓰기가_끝나지_않으면_재시도_후_409_로_거절된다() throws Exception {
+        // Given
+        VersionedUserPoint claimed = versionedUserPointStore.tryClaim(versionedUserPointStore.read(1L));
+
+        // Then
+        assertThatThrownBy(() -> optimisticPointEngine.execute(new PointCommand(1L, TransactionType.CHARGE, 100L)))
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.POINT_UPDATE_CONFLICT.getMessage());
+        assertThat(optimisticPointEngine.stats().retried()).isEqualTo(2L);
+        assertThat(optimisticPointEngine.stats().conflicts()).isEqualTo(1L);
+
+        versionedUserPointStore.rollback(claimed);
+        assertThat(optimisticPointEngine.execute(new PointCommand(1L, TransactionType.CHARGE, 100L)).point()).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PartitionedPointEngineTest {
+
+    private PartitionedPointEngine partitionedPointEngine;
+
+    @AfterEach
+    void tearDown() {
+        partitionedPointEngine.close();
+    }
+
+    @Test
+    public void 같은_사용자의_명령은_도착_순서대로_적용된다() {
+        // Given
+        partitionedPointEngine = engine(0L, 4, Duration.ZERO);
+
+        // When
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(partitionedPointEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L)));
+        }
+
+        // Then
+        assertThat(results.stream().map(result -> result.join().point()).toList())
+                .containsExactly(100L, 200L, 300L);
+    }
+
+    @Test
+    public void 잔액이_부족한_요청만_실패하고_나머지는_처리된다() {
+        // Given
+        partitionedPointEngine = engine(0L, 4, Duration.ZERO);
+
+        // When
+        CompletableFuture<UserPoint> charge = partitionedPointEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L));
+        CompletableFuture<UserPoint> overUse = partitionedPointEngine.submit(new PointCommand(1L, TransactionType.USE, 500L));
+        CompletableFuture<UserPoint> use = partitionedPointEngine.submit(new PointCommand(1L, TransactionType.USE, 50L));
+
+        // Then
+        assertThat(charge.join().point()).isEqualTo(100L);
+        assertThatThrownBy(overUse::join).isInstanceOf(CompletionException.class);
+        assertThat(use.join().point()).isEqualTo(50L);
+    }
+
+    @Test
+    public void 대기_시간_안에_처리가_시작되지_않은_명령은_거절된다() throws Exception {
+        // Given
+        partitionedPointEngine = engine(200L, 1, Duration.ofMillis(100));
+        CompletableFuture<UserPoint> running = partitionedPointEngine.submit(new PointCommand(1L, TransactionType.CHARGE, 100L));
+
+        // Then
+        assertThatThrownBy(() -> partitionedPointEngine.execute(new PointCommand(2L, TransactionType.CHARGE, 100L)))
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.USER_LOCK_TIMEOUT.getMessage());
+        assertThat(running.join().point()).isEqualTo(100L);
+        assertThat(partitionedPointEngine.rejections()).isEqualTo(1L);
+        assertThat(partitionedPointEngine.execute(new PointCommand(2L, TransactionType.CHARGE, 0L)).point()).isZero();
+    }
+
+    private static PartitionedPointEngine engine(long tableLatencyMillis, int partitions, Duration maxWait) {
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(tableLatencyMillis));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(tableLatencyMillis));
+        return new PartitionedPointEngine(userPointStore, new PointWriter(userPointStore, pointHistoryStore), partitions, maxWait);
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.service.engine;
+
+import io.hhplus.tdd.point.database.FixedLatencyPointHistoryTable;
+import io.hhplus.tdd.point.database.FixedLatencyUserPointTable;
+import io.hhplus.tdd.point.database.PointHistoryStore;
+import io.hhplus.tdd.point.database.UserPointStore;
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.PointHistory;
+import io.hhplus.tdd.point.domain.PointSummary;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.service.engine.PointWriter.WriteMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointWriterTest {
+
+    private static final long TABLE_LATENCY_MILLIS = 100L;
+
+    private final PointCommand charge = new PointCommand(1L, TransactionType.CHARGE, 500L);
+    private final UserPoint current = UserPoint.of(1L, 1000L);
+    private final UserPoint updated = UserPoint.of(1L, 1500L);
+
+    @Test
+    public void 병렬_모드는_두_쓰기_중_느린_쪽만큼만_걸린다() throws Exception {
+        // Given
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(TABLE_LATENCY_MILLIS));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(TABLE_LATENCY_MILLIS));
+
+        // When
+        long sequential = elapsedMillis(new PointWriter(userPointStore, pointHistoryStore, WriteMode.SEQUENTIAL, 0));
+        long parallel = elapsedMillis(new PointWriter(userPointStore, pointHistoryStore, WriteMode.PARALLEL, 2));
+
+        // Then
+        assertThat(sequential).isGreaterThanOrEqualTo(TABLE_LATENCY_MILLIS * 2);
+        assertThat(parallel).isLessThan(TABLE_LATENCY_MILLIS * 2);
+    }
+
+    @Test
+    public void 잔액_저장에_실패하면_보상_내역을_남긴다() {
+        // Given
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(0L) {
+            @Override
+            public UserPoint insertOrUpdate(Long id, Long amount) {
+                throw new IllegalStateException("잔액 저장 실패");
+            }
+        });
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L));
+        PointWriter pointWriter = new PointWriter(userPointStore, pointHistoryStore, WriteMode.PARALLEL, 2);
+
+        // When
+        assertThatThrownBy(() -> pointWriter.write(charge, current, updated))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(pointHistoryStore.selectAllByUserId(1L))
+                .extracting(PointHistory::type)
+                .containsExactly(TransactionType.CHARGE, TransactionType.CHARGE_CANCEL);
+        PointSummary summary = pointHistoryStore.summarize(1L, 1);
+        assertThat(summary.totalCharged()).isZero();
+        assertThat(summary.chargeCount()).isZero();
+        assertThat(summary.totalUsed()).isZero();
+        assertThat(summary.useCount()).isZero();
+        pointWriter.close();
+    }
+
+    @Test
+    public void 내역_저장에_실패하면_잔액을_되돌린다() throws Exception {
+        // Given
+        UserPointStore userPointStore = new UserPointStore(new FixedLatencyUserPointTable(0L));
+        PointHistoryStore pointHistoryStore = new PointHistoryStore(new FixedLatencyPointHistoryTable(0L) {
+            @Override
+            public PointHistory insert(Long id, Long amount, TransactionType transactionType, Long updateMillis) {
+                throw new IllegalStateException("내역 저장 실패");
+            }
+        });
+        PointWriter pointWriter = new PointWriter(userPointStore, pointHistoryStore, WriteMode.PARALLEL, 2);
+
+        // When
+        assertThatThrownBy(() -> pointWriter.write(charge, current, updated))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(userPointStore.selectById(1L).point()).isEqualTo(current.point());
+        pointWriter.close();
+    }
+
+    private long elapsedMillis(PointWriter pointWriter) throws Exception {
+        long startedAt = System.nanoTime();
+        pointWriter.write(charge, current, updated);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        pointWriter.close();
+        return elapsed;
+    }
+}
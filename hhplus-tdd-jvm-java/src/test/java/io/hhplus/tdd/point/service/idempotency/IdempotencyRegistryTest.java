@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point.service.idempotency;
+
+import io.hhplus.tdd.point.domain.PointCommand;
+import io.hhplus.tdd.point.domain.UserPoint;
+import io.hhplus.tdd.point.domain.constant.TransactionType;
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyRegistryTest {
+
+    private final IdempotencyRegistry idempotencyRegistry = new IdempotencyRegistry(100, Duration.ofMinutes(1));
+    private final PointCommand charge = new PointCommand(1L, TransactionType.CHARGE, 500L);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    public void 같은_키로_재시도하면_저장된_결과를_반환한다() throws Exception {
+        // Given
+        UserPoint first = idempotencyRegistry.execute("key", charge, this::charge);
+
+        // When
+        UserPoint retried = idempotencyRegistry.execute("key", charge, this::charge);
+
+        // Then
+        assertThat(retried).isEqualTo(first);
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(idempotencyRegistry.stats().hits()).isEqualTo(1L);
+        assertThat(idempotencyRegistry.stats().size()).isEqualTo(1);
+    }
+
+    @Test
+    public void 처리_중인_키로_들어온_요청은_먼저_들어온_요청의_결과를_기다린다() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return idempotencyRegistry.execute("key", charge, () -> {
+                    started.countDown();
+                    release.await();
+                    return charge();
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        started.await();
+
+        // When
+        CompletableFuture<UserPoint> retried = CompletableFuture.supplyAsync(() -> {
+            try {
+                return idempotencyRegistry.execute("key", charge, this::charge);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        release.countDown();
+
+        // Then
+        assertThat(retried.join()).isEqualTo(first.join());
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 먼저_들어온_요청이_최대_대기_시간_안에_끝나지_않으면_기다리지_않고_거절한다() throws Exception {
+        // Given
+        IdempotencyRegistry shortWaitRegistry = new IdempotencyRegistry(100, Duration.ofMinutes(1), Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return shortWaitRegistry.execute("key", charge, () -> {
+                    started.countDown();
+                    release.await();
+                    return charge();
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        started.await();
+
+        // Then
+        assertThatThrownBy(() -> shortWaitRegistry.execute("key", charge, this::charge))
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage());
+        release.countDown();
+        first.join();
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 처리_중인_키는_캐시가_가득_차도_밀려나지_않아_재시도가_다시_실행되지_않는다() throws Exception {
+        // Given
+        IdempotencyRegistry smallRegistry = new IdempotencyRegistry(1, Duration.ofMinutes(1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<UserPoint> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return smallRegistry.execute("key", charge, () -> {
+                    started.countDown();
+                    release.await();
+                    return charge();
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        started.await();
+        smallRegistry.execute("other-1", charge, this::charge);
+        smallRegistry.execute("other-2", charge, this::charge);
+
+        // When
+        CompletableFuture<UserPoint> retried = CompletableFuture.supplyAsync(() -> {
+            try {
+                return smallRegistry.execute("key", charge, this::charge);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        release.countDown();
+
+        // Then
+        assertThat(retried.join()).isEqualTo(first.join());
+        assertThat(executions.get()).isEqualTo(3);
+        assertThat(smallRegistry.stats().evictions()).isEqualTo(2L);
+    }
+
+    @Test
+    public void 같은_키로_다른_요청을_보내면_예외() throws Exception {
+        // Given
+        idempotencyRegistry.execute("key", charge, this::charge);
+
+        // Then
+        assertThatThrownBy(() -> idempotencyRegistry.execute("key", new PointCommand(1L, TransactionType.CHARGE, 100L), this::charge))
+                .isInstanceOf(PointException.class)
+                .hasMessage(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    }
+
+    @Test
+    public void 실패한_요청은_같은_키로_다시_실행할_수_있다() throws Exception {
+        // Given
+        assertThatThrownBy(() -> idempotencyRegistry.execute("key", charge, () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        // When
+        idempotencyRegistry.execute("key", charge, this::charge);
+
+        // Then
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    private UserPoint charge() {
+        executions.incrementAndGet();
+        return UserPoint.of(1L, 500L);
+    }
+}
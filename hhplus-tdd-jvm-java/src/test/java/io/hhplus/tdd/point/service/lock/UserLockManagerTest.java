@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.service.lock;
+
+import io.hhplus.tdd.point.error.ErrorCode;
+import io.hhplus.tdd.point.error.PointException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class UserLockManagerTest {
+
+    private final UserLockManager userLockManager = new UserLockManager();
+
+    @Test
+    public void 같은_사용자의_요청은_순차적으로_처리된다() throws Exception {
+        // Given
+        int threadNum = 10;
+        AtomicInteger inCriticalSection = new AtomicInteger();
+        AtomicInteger maxInCriticalSection = new AtomicInteger();
+
+        // When
+        runConcurrently(threadNum, i -> userLockManager.executeWithLock(1L, () -> {
+            maxInCriticalSection.accumulateAndGet(inCriticalSection.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(10);
+            return inCriticalSection.decrementAndGet();
+        }));
+
+        // Then
+        assertThat(maxInCriticalSection.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void 서로_다른_사용자의_요청은_병렬로_처리된다() throws Exception {
+        // Given
+        int threadNum = 4;
+        CountDownLatch allEntered = new CountDownLatch(threadNum);
+
+        // When
+        runConcurrently(threadNum, i -> userLockManager.executeWithLock((long) i, () -> {
+            allEntered.countDown();
+            // 직렬로 처리된다면 다른 사용자가 진입할 수 없어 대기 시간이 초과된다.
+            return allEntered.await(5, TimeUnit.SECONDS);
+        }));
+
+        // Then
+        assertThat(allEntered.getCount()).isZero();
+    }
+
+    @Test
+    public void 사용이_끝난_락은_레지스트리에서_제거된다() throws Exception {
+        // When
+        runConcurrently(20, i -> userLockManager.executeWithLock((long) (i % 5), () -> i));
+
+        // Then
+        assertThat(userLockManager.activeLocks()).isZero();
+    }
+
+    @Test
+    public void 작업중_예외가_발생해도_락이_해제된다() throws Exception {
+        // When
+        try {
+            userLockManager.executeWithLock(1L, () -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException ignored) {
+        }
+
+        // Then
+        assertThat(userLockManager.activeLocks()).isZero();
+        assertThat(userLockManager.executeWithLock(1L, () -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    public void 최대_대기_시간을_넘기면_요청을_거절한다() throws Exception {
+        // Given
+        UserLockManager boundedLockManager = new UserLockManager(Duration.ofMillis(50));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        executorService.submit(() -> boundedLockManager.executeWithLock(1L, () -> {
+            holding.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        holding.await();
+
+        // When
+        Throwable rejected = catchThrowable(() -> boundedLockManager.executeWithLock(1L, () -> 1));
+        release.countDown();
+        executorService.shutdown();
+        executorService.awaitTermination(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(rejected).isInstanceOf(PointException.class);
+        assertThat(((PointException) rejected).getErrorCode()).isEqualTo(ErrorCode.USER_LOCK_TIMEOUT);
+        assertThat(boundedLockManager.stats().rejected()).isEqualTo(1L);
+        assertThat(boundedLockManager.stats().acquired()).isEqualTo(1L);
+        assertThat(boundedLockManager.activeLocks()).isZero();
+    }
+
+    private void runConcurrently(int threadNum, IndexedTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threadNum);
+        CountDownLatch latch = new CountDownLatch(threadNum);
+        for (int i = 0; i < threadNum; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    task.run(index);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        Object run(int index) throws Exception;
+    }
+}
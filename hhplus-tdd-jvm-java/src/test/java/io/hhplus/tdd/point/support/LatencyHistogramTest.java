@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void 기록된_지연_시간의_백분위를_계산한다() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram(1_000);
+
+        // When
+        for (long millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        // Then
+        assertThat(histogram.count()).isEqualTo(100L);
+        assertThat(histogram.percentileMillis(50)).isEqualTo(50L);
+        assertThat(histogram.percentileMillis(99)).isEqualTo(99L);
+        assertThat(histogram.meanMillis()).isEqualTo(50.5);
+    }
+
+    @Test
+    public void 최대_범위를_넘는_값은_마지막_버킷에_집계된다() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram(100);
+
+        // When
+        histogram.record(TimeUnit.SECONDS.toNanos(5));
+
+        // Then
+        assertThat(histogram.percentileMillis(100)).isEqualTo(100L);
+    }
+}